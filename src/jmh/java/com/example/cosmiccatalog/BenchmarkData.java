@@ -0,0 +1,97 @@
+package com.example.cosmiccatalog;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Reproducible synthetic observations for the benchmarks.
+ * Every dataset is derived from a fixed seed, so runs on different machines and commits
+ * measure the same rows.
+ */
+final class BenchmarkData {
+
+    static final long SEED = 42L;
+
+    private static final String[] TELESCOPES = {"JWST", "HST"};
+    private static final String[] INSTRUMENTS = {"NIRCam", "MIRI", "NIRSpec", "WFC3", "ACS", "STIS"};
+    private static final String[] FILTERS = {"F090W", "F200W", "F444W", "F770W", "F606W", "F814W", "F656N", "CLEAR"};
+    private static final String[] TARGETS = {"Carina Nebula", "Stephan's Quintet", "Pillars of Creation",
+            "Southern Ring", "Cartwheel Galaxy", "Orion Bar", "M51", "NGC 1300"};
+
+    // Fixed reference time so recency scoring does not drift between runs
+    static final LocalDateTime NOW = LocalDateTime.of(2025, 6, 1, 0, 0);
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Generates observations with a realistic mix of telescopes, instruments, filters and ages.
+     */
+    static List<Observation> observations(int count) {
+        var random = new Random(SEED);
+        var observations = new ArrayList<Observation>(count);
+        for (var i = 0; i < count; i++) {
+            var observation = new Observation();
+            observation.setId((long) i + 1);
+            observation.setTelescope(TELESCOPES[random.nextInt(TELESCOPES.length)]);
+            observation.setProgramId("BENCH-" + i);
+            observation.setTargetName(TARGETS[random.nextInt(TARGETS.length)]);
+            observation.setRa(random.nextDouble() * 360.0);
+            observation.setDec(random.nextDouble() * 180.0 - 90.0);
+            observation.setObsDate(NOW.minusDays(random.nextInt(3650)));
+            observation.setInstrument(INSTRUMENTS[random.nextInt(INSTRUMENTS.length)]);
+            observation.setFilters(FILTERS[random.nextInt(FILTERS.length)]);
+            observation.setExposureSec(100 + random.nextInt(7200));
+            observation.setImageUrl("https://example.com/bench-" + i + ".jpg");
+            observation.setScore(random.nextInt(101));
+            observations.add(observation);
+        }
+        return observations;
+    }
+
+    /**
+     * Candidates sharing one dedup key, spread around a position so that only the last
+     * few fall within the duplicate threshold.
+     */
+    static List<Observation> candidates(Observation fresh, int count) {
+        var random = new Random(SEED);
+        var candidates = new ArrayList<Observation>(count);
+        for (var i = 0; i < count; i++) {
+            var candidate = new Observation();
+            candidate.setTelescope(fresh.getTelescope());
+            candidate.setTargetName(fresh.getTargetName());
+            candidate.setFilters(fresh.getFilters());
+            // Within 5 arcsec only for the last candidate; the rest are 10-60 arcsec away
+            var offsetArcsec = i == count - 1 ? 1.0 : 10.0 + random.nextDouble() * 50.0;
+            candidate.setRa(fresh.getRa() + offsetArcsec / 3600.0);
+            candidate.setDec(fresh.getDec());
+            candidates.add(candidate);
+        }
+        return candidates;
+    }
+
+    /**
+     * Encodes observations as a top-level JSON array, in the layout of the bundled data files.
+     */
+    static byte[] jsonArray(List<Observation> observations) {
+        var json = new StringBuilder(observations.size() * 300).append("[\n");
+        for (var i = 0; i < observations.size(); i++) {
+            var o = observations.get(i);
+            json.append("  {\"telescope\": \"").append(o.getTelescope())
+                    .append("\", \"programId\": \"").append(o.getProgramId())
+                    .append("\", \"targetName\": \"").append(o.getTargetName())
+                    .append("\", \"ra\": ").append(o.getRa())
+                    .append(", \"dec\": ").append(o.getDec())
+                    .append(", \"obsDate\": \"").append(o.getObsDate())
+                    .append("\", \"instrument\": \"").append(o.getInstrument())
+                    .append("\", \"filters\": \"").append(o.getFilters())
+                    .append("\", \"exposureSec\": ").append(o.getExposureSec())
+                    .append(", \"imageUrl\": \"").append(o.getImageUrl())
+                    .append("\"}").append(i < observations.size() - 1 ? ",\n" : "\n");
+        }
+        return json.append("]\n").toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
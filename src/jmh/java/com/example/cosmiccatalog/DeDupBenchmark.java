@@ -0,0 +1,44 @@
+package com.example.cosmiccatalog;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * Candidate scan of {@link DeDupServiceImpl#findDuplicate}: one fresh observation checked
+ * against every stored candidate with the same dedup key, the match being the last one.
+ */
+@State(Scope.Benchmark)
+public class DeDupBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int candidates;
+
+    private DeDupServiceImpl deDupService;
+    private Observation fresh;
+    private List<Observation> stored;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // isDuplicate never touches the repository
+        deDupService = new DeDupServiceImpl(null, new SimpleMeterRegistry());
+        fresh = BenchmarkData.observations(1).get(0);
+        stored = BenchmarkData.candidates(fresh, candidates);
+    }
+
+    @Benchmark
+    public boolean scanCandidates() {
+        for (var candidate : stored) {
+            if (deDupService.isDuplicate(candidate, fresh)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.dto.ObservationDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * Entity-to-DTO mapping of a list page, as done by the write-side event listeners.
+ */
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    @Param({"20", "1000"})
+    int rows;
+
+    private List<Observation> observations;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        observations = BenchmarkData.observations(rows);
+    }
+
+    @Benchmark
+    public List<ObservationDTO> mapPage() {
+        return observations.stream().map(ObservationDTO::from).toList();
+    }
+}
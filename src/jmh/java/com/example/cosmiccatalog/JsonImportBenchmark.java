@@ -0,0 +1,47 @@
+package com.example.cosmiccatalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * The parse stage of a JSON import: the default format's streaming reader drained in
+ * import-sized chunks, from an in-memory document so disk speed is not measured.
+ */
+@State(Scope.Benchmark)
+public class JsonImportBenchmark {
+
+    private static final int CHUNK_SIZE = 500;
+
+    @Param({"1000", "10000", "100000"})
+    int rows;
+
+    private JsonArrayObservationFormat format;
+    private byte[] document;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        format = new JsonArrayObservationFormat(new ObjectMapper());
+        document = BenchmarkData.jsonArray(BenchmarkData.observations(rows));
+    }
+
+    @Benchmark
+    public int readAll(Blackhole blackhole) throws IOException {
+        var total = 0;
+        try (var reader = format.open(new ByteArrayInputStream(document))) {
+            for (var chunk = reader.nextChunk(CHUNK_SIZE); !chunk.isEmpty(); chunk = reader.nextChunk(CHUNK_SIZE)) {
+                blackhole.consume(chunk);
+                total += chunk.size();
+            }
+        }
+        return total;
+    }
+}
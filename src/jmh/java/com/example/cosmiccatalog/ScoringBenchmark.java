@@ -0,0 +1,117 @@
+package com.example.cosmiccatalog;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Scoring cost per observation with the built-in rules, one call at a time and per batch,
+ * against the original regex/{@code contains}/{@code Duration} scorer as a baseline.
+ */
+@State(Scope.Benchmark)
+public class ScoringBenchmark {
+
+    @Param({"1000", "100000"})
+    int rows;
+
+    private ScoringServiceImpl scoringService;
+    private CompiledScoringRules compiledRules;
+    private LocalDateTime[] recencyCutoffs;
+    private List<Observation> observations;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        scoringService = new ScoringServiceImpl();
+        compiledRules = CompiledScoringRules.compile(ScoringRules.defaults());
+        recencyCutoffs = compiledRules.recencyCutoffs(BenchmarkData.NOW);
+        observations = BenchmarkData.observations(rows);
+    }
+
+    @Benchmark
+    public int legacyCalculateScore() {
+        return LegacyScorer.calculateScore(nextObservation(), BenchmarkData.NOW);
+    }
+
+    @Benchmark
+    public int compiledScore() {
+        return compiledRules.score(nextObservation(), recencyCutoffs);
+    }
+
+    @Benchmark
+    public int calculateScore() {
+        return scoringService.calculateScore(nextObservation(), BenchmarkData.NOW);
+    }
+
+    @Benchmark
+    public void scoreBatch(Blackhole blackhole) {
+        scoringService.scoreBatch(observations);
+        blackhole.consume(observations.get(observations.size() - 1).getScore());
+    }
+
+    private Observation nextObservation() {
+        var observation = observations.get(next);
+        next = next + 1 == observations.size() ? 0 : next + 1;
+        return observation;
+    }
+
+    /**
+     * The scorer as it stood before the rules were compiled, kept verbatim except that
+     * "now" is passed in so both sides score against {@link BenchmarkData#NOW}.
+     */
+    static final class LegacyScorer {
+
+        private LegacyScorer() {
+        }
+
+        static int calculateScore(Observation observation, LocalDateTime now) {
+            var exposureScore = calculateExposureScore(observation.getExposureSec());
+            var recencyScore = calculateRecencyScore(observation.getObsDate(), now);
+            var instrumentScore = calculateInstrumentScore(observation.getInstrument());
+            var filterScore = calculateFilterScore(observation.getFilters());
+
+            var totalScore = exposureScore + recencyScore + instrumentScore + filterScore;
+
+            if (totalScore == 42) {
+                return 42;
+            }
+
+            return Math.min(100, totalScore);
+        }
+
+        private static int calculateExposureScore(int exposureSec) {
+            if (exposureSec > 600) return 30;
+            if (exposureSec > 300) return 15;
+            return 0;
+        }
+
+        private static int calculateRecencyScore(LocalDateTime obsDate, LocalDateTime now) {
+            var daysSince = Duration.between(obsDate, now).toDays();
+
+            if (daysSince < 365) return 20;
+            if (daysSince < 1825) return 10;
+            return 0;
+        }
+
+        private static int calculateInstrumentScore(String instrument) {
+            return switch (instrument) {
+                case String i when i.contains("NIRCAM") -> 30;
+                case String i when i.contains("WFC3") -> 25;
+                case String i when i.contains("ACS") -> 10;
+                default -> 0;
+            };
+        }
+
+        private static int calculateFilterScore(String filters) {
+            return filters.matches(".*(F[1-4]\\d{2}[WM]).*") ? 15 : 0;
+        }
+    }
+}
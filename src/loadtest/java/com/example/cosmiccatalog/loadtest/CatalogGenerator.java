@@ -0,0 +1,260 @@
+package com.example.cosmiccatalog.loadtest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic generator of synthetic observation catalogs for load tests.
+ * <p>
+ * Rows are streamed straight to the output, so any size from thousands to hundreds of
+ * millions of rows runs in constant memory. The same seed always yields the same file.
+ * <ul>
+ *   <li>Sky positions are clustered: targets are drawn around a few dozen survey fields
+ *   (galactic plane, Magellanic Clouds, deep fields), and each row scatters around its target.</li>
+ *   <li>Telescopes, instruments and filters follow a JWST/HST mix, with realistic exposure
+ *   times and observation dates for each telescope.</li>
+ *   <li>A configurable share of rows repeat an earlier row within one arcsecond, which the
+ *   import dedups. Distinct rows of the same target, telescope and filters stay far enough
+ *   apart that accidental near-duplicates are rare (well under 1%).</li>
+ * </ul>
+ * Usage: {@code CatalogGenerator --rows=1000000 --duplicate-rate=0.02 --format=ndjson --seed=42 --out=catalog.ndjson}
+ */
+public final class CatalogGenerator {
+
+    public enum Format { NDJSON, CSV, JSON }
+
+    /**
+     * Generator settings.
+     *
+     * @param rows rows to write, duplicates included
+     * @param duplicateRate share of rows that repeat an earlier row (0-1)
+     * @param seed random seed
+     */
+    public record Settings(long rows, double duplicateRate, long seed) {
+        public Settings {
+            if (rows < 0 || duplicateRate < 0 || duplicateRate > 1) {
+                throw new IllegalArgumentException("rows must be >= 0 and duplicateRate within 0-1");
+            }
+        }
+    }
+
+    // Survey fields: centre ra, dec (degrees), spread (degrees) and relative weight
+    private static final double[][] FIELDS = {
+            {266.4, -29.0, 8.0, 6},   // galactic centre
+            {161.3, -59.9, 3.0, 4},   // Carina
+            {274.7, -13.8, 2.0, 3},   // Eagle
+            {83.8, -5.4, 2.0, 4},     // Orion
+            {80.9, -69.8, 4.0, 3},    // LMC
+            {13.2, -72.8, 2.5, 2},    // SMC
+            {189.2, 62.2, 0.3, 3},    // GOODS-N
+            {53.1, -27.8, 0.3, 3},    // GOODS-S / HUDF
+            {150.1, 2.2, 0.8, 3},     // COSMOS
+            {10.7, 41.3, 1.5, 2},     // Andromeda
+            {202.5, 47.2, 0.3, 1},    // M51
+            {339.0, 34.0, 0.2, 1},    // Stephan's Quintet
+            {110.8, -73.5, 0.2, 1},   // SMACS 0723
+            {299.9, 40.7, 5.0, 2},    // Cygnus
+    };
+
+    private static final String[] TARGET_PREFIXES = {"NGC", "IC", "HD", "2MASS J", "Gaia DR3", "SDSS J", "WISE J"};
+
+    // Instrument name, then its filters; weights follow typical archive shares
+    private static final String[][] JWST_INSTRUMENTS = {
+            {"NIRCam", "F090W", "F115W", "F150W", "F200W", "F277W", "F356W", "F444W", "F410M"},
+            {"MIRI", "F560W", "F770W", "F1000W", "F1130W", "F1500W", "F1800W", "F2100W"},
+            {"NIRSpec", "CLEAR", "F070LP", "F170LP", "F290LP"},
+            {"NIRISS", "F115W", "F150W", "F200W", "CLEAR"},
+    };
+    private static final int[] JWST_WEIGHTS = {50, 25, 15, 10};
+
+    private static final String[][] HST_INSTRUMENTS = {
+            {"WFC3", "F275W", "F336W", "F438W", "F555W", "F606W", "F814W", "F110W", "F160W", "F656N"},
+            {"ACS", "F435W", "F475W", "F606W", "F775W", "F814W", "F658N"},
+            {"STIS", "CLEAR", "F28X50LP"},
+            {"WFPC2", "F300W", "F555W", "F814W"},
+    };
+    private static final int[] HST_WEIGHTS = {45, 35, 10, 10};
+
+    private static final LocalDateTime HST_FIRST = LocalDateTime.of(1994, 1, 1, 0, 0);
+    private static final LocalDateTime JWST_FIRST = LocalDateTime.of(2022, 7, 1, 0, 0);
+    // Fixed "today" so output does not depend on when it is generated
+    private static final LocalDateTime EPOCH_END = LocalDateTime.of(2025, 6, 1, 0, 0);
+
+    private static final int RECENT_ROWS = 4096;
+    private static final double ROW_SCATTER_DEG = 90.0 / 3600.0;
+    private static final double DUPLICATE_JITTER_DEG = 1.0 / 3600.0;
+
+    private final Settings settings;
+    private final SplittableRandom random;
+    private final int targetCount;
+    private final double fieldWeightTotal;
+    private final Row[] recent = new Row[RECENT_ROWS];
+
+    public CatalogGenerator(Settings settings) {
+        this.settings = settings;
+        this.random = new SplittableRandom(settings.seed());
+        // About 40 rows per target keeps accidental near-duplicates rare at any size
+        this.targetCount = (int) Math.max(200, Math.min(Integer.MAX_VALUE, settings.rows() / 40));
+        var total = 0.0;
+        for (var field : FIELDS) {
+            total += field[3];
+        }
+        this.fieldWeightTotal = total;
+    }
+
+    /**
+     * Writes the catalog and returns the number of rows written.
+     */
+    public long write(Format format, Writer out) throws IOException {
+        var line = new StringBuilder(320);
+        if (format == Format.CSV) {
+            out.write("telescope,program_id,target_name,ra,dec,obs_date,instrument,filters,exposure_sec,image_url\n");
+        } else if (format == Format.JSON) {
+            out.write("[\n");
+        }
+
+        for (long i = 0; i < settings.rows(); i++) {
+            var row = nextRow(i);
+            line.setLength(0);
+            switch (format) {
+                case NDJSON -> appendJson(line, row).append('\n');
+                case JSON -> appendJson(line, row).append(i < settings.rows() - 1 ? ",\n" : "\n");
+                case CSV -> appendCsv(line, row).append('\n');
+            }
+            out.append(line);
+        }
+
+        if (format == Format.JSON) {
+            out.write("]\n");
+        }
+        out.flush();
+        return settings.rows();
+    }
+
+    private Row nextRow(long index) {
+        var slot = (int) (index % RECENT_ROWS);
+        if (index > 0 && random.nextDouble() < settings.duplicateRate()) {
+            var original = recent[(int) (random.nextLong(Math.min(index, RECENT_ROWS)))];
+            var duplicate = new Row(original.telescope, "DUP-" + index, original.target,
+                    wrapRa(original.ra + random.nextDouble(-DUPLICATE_JITTER_DEG, DUPLICATE_JITTER_DEG)),
+                    clampDec(original.dec + random.nextDouble(-DUPLICATE_JITTER_DEG, DUPLICATE_JITTER_DEG)),
+                    original.obsDate, original.instrument, original.filters, original.exposureSec);
+            recent[slot] = duplicate;
+            return duplicate;
+        }
+
+        // Zipf-like: low target numbers are observed far more often
+        var target = (int) Math.min(targetCount - 1, Math.floor(Math.pow(random.nextDouble(), 2.0) * targetCount));
+        var targetRandom = new SplittableRandom(settings.seed() ^ (0x9E3779B97F4A7C15L * (target + 1)));
+        var field = pickField(targetRandom);
+        var targetRa = wrapRa(field[0] + targetRandom.nextGaussian() * field[2] / Math.cos(Math.toRadians(field[1])));
+        var targetDec = clampDec(field[1] + targetRandom.nextGaussian() * field[2]);
+        var targetName = TARGET_PREFIXES[target % TARGET_PREFIXES.length] + " " + (1000 + target);
+
+        var jwst = random.nextInt(100) < 55;
+        var instruments = jwst ? JWST_INSTRUMENTS : HST_INSTRUMENTS;
+        var instrument = instruments[pickWeighted(jwst ? JWST_WEIGHTS : HST_WEIGHTS)];
+        var filters = instrument[1 + random.nextInt(instrument.length - 1)];
+
+        var first = jwst ? JWST_FIRST : HST_FIRST;
+        var spanMinutes = Duration.between(first, EPOCH_END).toMinutes();
+        var obsDate = first.plusMinutes(random.nextLong(spanMinutes));
+        // Log-uniform exposure between 30 s and 3 h
+        var exposureSec = (int) Math.round(Math.exp(random.nextDouble(Math.log(30), Math.log(10800))));
+
+        var row = new Row(jwst ? "JWST" : "HST",
+                (jwst ? "JWST-" : "HST-") + obsDate.getYear() + "-" + (index % 100_000),
+                targetName,
+                wrapRa(targetRa + random.nextGaussian() * ROW_SCATTER_DEG),
+                clampDec(targetDec + random.nextGaussian() * ROW_SCATTER_DEG),
+                obsDate, instrument[0], filters, exposureSec);
+        recent[slot] = row;
+        return row;
+    }
+
+    private double[] pickField(SplittableRandom targetRandom) {
+        var pick = targetRandom.nextDouble(fieldWeightTotal);
+        for (var field : FIELDS) {
+            pick -= field[3];
+            if (pick < 0) {
+                return field;
+            }
+        }
+        return FIELDS[FIELDS.length - 1];
+    }
+
+    private int pickWeighted(int[] weights) {
+        var pick = random.nextInt(100);
+        for (var i = 0; i < weights.length; i++) {
+            pick -= weights[i];
+            if (pick < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static double wrapRa(double ra) {
+        var wrapped = ra % 360.0;
+        return wrapped < 0 ? wrapped + 360.0 : wrapped;
+    }
+
+    private static double clampDec(double dec) {
+        return Math.max(-90.0, Math.min(90.0, dec));
+    }
+
+    private static StringBuilder appendJson(StringBuilder out, Row row) {
+        return out.append("{\"telescope\":\"").append(row.telescope)
+                .append("\",\"programId\":\"").append(row.programId)
+                .append("\",\"targetName\":\"").append(row.target)
+                .append("\",\"ra\":").append(row.ra)
+                .append(",\"dec\":").append(row.dec)
+                .append(",\"obsDate\":\"").append(row.obsDate)
+                .append("\",\"instrument\":\"").append(row.instrument)
+                .append("\",\"filters\":\"").append(row.filters)
+                .append("\",\"exposureSec\":").append(row.exposureSec)
+                .append('}');
+    }
+
+    private static StringBuilder appendCsv(StringBuilder out, Row row) {
+        return out.append(row.telescope).append(',')
+                .append(row.programId).append(',')
+                .append(row.target).append(',')
+                .append(row.ra).append(',')
+                .append(row.dec).append(',')
+                .append(row.obsDate).append(',')
+                .append(row.instrument).append(',')
+                .append(row.filters).append(',')
+                .append(row.exposureSec).append(',');
+    }
+
+    private record Row(String telescope, String programId, String target, double ra, double dec,
+                       LocalDateTime obsDate, String instrument, String filters, int exposureSec) {
+    }
+
+    public static void main(String[] args) throws IOException {
+        var options = Options.parse(args);
+        var settings = new Settings(options.getLong("rows", 100_000),
+                options.getDouble("duplicate-rate", 0.02), options.getLong("seed", 42));
+        var format = Format.valueOf(options.get("format", "ndjson").toUpperCase(Locale.ROOT));
+        var out = Path.of(options.get("out", "build/loadtest/catalog." + format.name().toLowerCase(Locale.ROOT)));
+
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        var started = System.nanoTime();
+        try (BufferedWriter writer = Files.newBufferedWriter(out, StandardCharsets.UTF_8)) {
+            new CatalogGenerator(settings).write(format, writer);
+        }
+        System.out.printf(Locale.ROOT, "Wrote %,d rows (%.1f%% duplicates) to %s in %.1f s%n",
+                settings.rows(), settings.duplicateRate() * 100, out, (System.nanoTime() - started) / 1e9);
+    }
+}
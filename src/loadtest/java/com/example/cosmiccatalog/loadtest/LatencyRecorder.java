@@ -0,0 +1,73 @@
+package com.example.cosmiccatalog.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Per-endpoint latency samples for one worker thread.
+ * Each worker records into its own recorder without locking; recorders are merged after the run.
+ */
+final class LatencyRecorder {
+
+    private final Map<String, Samples> samples = new LinkedHashMap<>();
+
+    void record(String endpoint, long nanos, boolean ok) {
+        samples.computeIfAbsent(endpoint, name -> new Samples()).add(nanos, ok);
+    }
+
+    void mergeInto(LatencyRecorder total) {
+        samples.forEach((endpoint, own) -> total.samples.computeIfAbsent(endpoint, name -> new Samples()).addAll(own));
+    }
+
+    /**
+     * Formats one line per endpoint: requests, errors, throughput and p50/p99/max latency.
+     */
+    String report(double elapsedSeconds) {
+        var out = new StringBuilder(String.format(Locale.ROOT, "%-22s %10s %8s %10s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms"));
+        samples.forEach((endpoint, s) -> {
+            var sorted = Arrays.copyOf(s.nanos, s.count);
+            Arrays.sort(sorted);
+            out.append(String.format(Locale.ROOT, "%-22s %10d %8d %10.1f %9.2f %9.2f %9.2f%n",
+                    endpoint, s.count, s.errors, s.count / elapsedSeconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.99),
+                    sorted.length == 0 ? 0.0 : sorted[sorted.length - 1] / 1e6));
+        });
+        return out.toString();
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        var index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static final class Samples {
+        private long[] nanos = new long[1024];
+        private int count;
+        private long errors;
+
+        void add(long value, boolean ok) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = value;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        void addAll(Samples other) {
+            if (count + other.count > nanos.length) {
+                nanos = Arrays.copyOf(nanos, Math.max(nanos.length * 2, count + other.count));
+            }
+            System.arraycopy(other.nanos, 0, nanos, count, other.count);
+            count += other.count;
+            errors += other.errors;
+        }
+    }
+}
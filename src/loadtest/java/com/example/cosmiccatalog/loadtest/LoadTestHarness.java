@@ -0,0 +1,295 @@
+package com.example.cosmiccatalog.loadtest;
+
+import com.example.cosmiccatalog.CosmicCatalogApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+/**
+ * End-to-end load test: generates a catalog, boots the app against H2 or a local Postgres,
+ * imports the catalog over HTTP, then drives a mix of listing, featured and approval traffic
+ * and reports throughput and p50/p99 latency per endpoint.
+ * <p>
+ * Workers run a closed loop (each sends its next request when the previous one returns), so
+ * the numbers describe the app at a given concurrency rather than at a fixed arrival rate.
+ * <p>
+ * Options (all {@code --name=value}):
+ * <ul>
+ *   <li>{@code rows} (100000), {@code duplicate-rate} (0.02), {@code seed} (42): generated catalog</li>
+ *   <li>{@code catalog}: import this file instead of generating one</li>
+ *   <li>{@code db}: {@code h2} (default, in memory) or {@code postgres}; with Postgres,
+ *   {@code jdbc-url}, {@code db-user} and {@code db-password} default to the docker-compose database</li>
+ *   <li>{@code base-url}: drive an already running app instead of booting one (skips the import
+ *   unless {@code catalog} or {@code rows} is given)</li>
+ *   <li>{@code concurrency} (16), {@code warmup} (10) and {@code duration} (60) seconds</li>
+ *   <li>{@code mix}: request weights, default {@code list=35,cursor=20,featured=35,approve=10}</li>
+ *   <li>{@code spring.*}, {@code app.*}: passed to the booted app, e.g. {@code --spring.threads.virtual.enabled=true}</li>
+ * </ul>
+ */
+public final class LoadTestHarness {
+
+    private static final int PAGE_SIZE = 20;
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+
+    private LoadTestHarness(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public static void main(String[] args) throws Exception {
+        var options = Options.parse(args);
+
+        ConfigurableApplicationContext app = null;
+        var baseUrl = options.get("base-url", null);
+        if (baseUrl == null) {
+            app = boot(options);
+            baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+        }
+
+        try {
+            var harness = new LoadTestHarness(baseUrl);
+            if (options.get("base-url", null) == null || options.has("catalog") || options.has("rows")) {
+                harness.importCatalog(catalogFile(options));
+            }
+            harness.runMixedTraffic(options);
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext boot(Options options) {
+        var properties = new HashMap<String, Object>();
+        properties.put("server.port", 0);
+        properties.put("spring.jpa.show-sql", false);
+        if (options.get("db", "h2").equals("postgres")) {
+            properties.put("spring.datasource.url", options.get("jdbc-url",
+                    "jdbc:postgresql://localhost:5432/cosmic?reWriteBatchedInserts=true"));
+            properties.put("spring.datasource.username", options.get("db-user", "cosmic"));
+            properties.put("spring.datasource.password", options.get("db-password", "cosmic"));
+            properties.put("spring.datasource.driver-class-name", "org.postgresql.Driver");
+            properties.put("spring.jpa.database-platform", "org.hibernate.dialect.PostgreSQLDialect");
+            properties.put("spring.jpa.hibernate.ddl-auto", "update");
+        } else {
+            properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1");
+            properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        }
+        options.forEachPrefixed("spring.", properties::put);
+        options.forEachPrefixed("app.", properties::put);
+
+        System.out.println("Booting the app with " + properties.get("spring.datasource.url"));
+        var app = new SpringApplicationBuilder(CosmicCatalogApplication.class)
+                .properties(properties)
+                .run();
+        // Printed so the reports of runs being compared say which execution mode they measured
+        var environment = app.getEnvironment();
+        System.out.printf(Locale.ROOT, "Virtual threads: %s, connection pool: %s%n",
+                environment.getProperty("spring.threads.virtual.enabled", "false"),
+                environment.getProperty("spring.datasource.hikari.maximum-pool-size", "10"));
+        return app;
+    }
+
+    private static Path catalogFile(Options options) throws IOException {
+        if (options.has("catalog")) {
+            return Path.of(options.get("catalog", null));
+        }
+        var settings = new CatalogGenerator.Settings(options.getLong("rows", 100_000),
+                options.getDouble("duplicate-rate", 0.02), options.getLong("seed", 42));
+        var file = Files.createTempFile("catalog-", ".ndjson");
+        file.toFile().deleteOnExit();
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            new CatalogGenerator(settings).write(CatalogGenerator.Format.NDJSON, writer);
+        }
+        System.out.printf(Locale.ROOT, "Generated %,d rows (%.1f%% duplicates)%n",
+                settings.rows(), settings.duplicateRate() * 100);
+        return file;
+    }
+
+    private void importCatalog(Path catalog) throws IOException, InterruptedException {
+        var contentType = catalog.toString().endsWith(".csv") ? "text/csv"
+                : catalog.toString().endsWith(".json") ? "application/json" : "application/x-ndjson";
+        var request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/import/upload"))
+                .header("Content-Type", contentType)
+                .POST(HttpRequest.BodyPublishers.ofFile(catalog))
+                .build();
+
+        var started = System.nanoTime();
+        var response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        var seconds = (System.nanoTime() - started) / 1e9;
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Import failed with " + response.statusCode() + ": " + response.body());
+        }
+
+        var progress = objectMapper.readTree(response.body());
+        System.out.printf(Locale.ROOT, "%nImport: %s, %,d rows parsed, %,d imported, %,d duplicates in %.1f s (%.0f rows/s)%n",
+                progress.path("status").asText(), progress.path("rowsParsed").asLong(),
+                progress.path("imported").asLong(), progress.path("duplicates").asLong(),
+                seconds, progress.path("rowsParsed").asLong() / seconds);
+    }
+
+    private void runMixedTraffic(Options options) throws Exception {
+        var mix = Mix.parse(options.get("mix", "list=35,cursor=20,featured=35,approve=10"));
+        var concurrency = options.getInt("concurrency", 16);
+        var warmupSeconds = options.getInt("warmup", 10);
+        var durationSeconds = options.getInt("duration", 60);
+
+        var firstId = idAt("?after=&size=1");
+        var lastId = idAt("?page=0&size=1&sort=id,desc");
+        var total = objectMapper.readTree(get("/api/observations?page=0&size=1").body()).path("totalElements").asLong();
+        if (firstId < 0) {
+            throw new IllegalStateException("The catalog is empty; import rows before running traffic");
+        }
+        var pages = Math.max(1, (int) ((total + PAGE_SIZE - 1) / PAGE_SIZE));
+        System.out.printf(Locale.ROOT, "Traffic: %d workers, %d s warmup, %d s measured, ids %d-%d, mix %s%n",
+                concurrency, warmupSeconds, durationSeconds, firstId, lastId, mix);
+
+        var measureFrom = System.nanoTime() + warmupSeconds * 1_000_000_000L;
+        var measureUntil = measureFrom + durationSeconds * 1_000_000_000L;
+        var workers = new ArrayList<Callable<LatencyRecorder>>();
+        for (var w = 0; w < concurrency; w++) {
+            var random = new SplittableRandom(options.getLong("seed", 42) + w);
+            workers.add(() -> work(random, mix, pages, firstId, lastId, measureFrom, measureUntil));
+        }
+
+        var results = new LatencyRecorder();
+        try (var executor = Executors.newFixedThreadPool(concurrency)) {
+            for (var future : executor.invokeAll(workers)) {
+                future.get().mergeInto(results);
+            }
+        }
+        System.out.printf("%n%s", results.report(durationSeconds));
+    }
+
+    private LatencyRecorder work(SplittableRandom random, Mix mix, int pages, long firstId, long lastId,
+                                 long measureFrom, long measureUntil) {
+        var recorder = new LatencyRecorder();
+        var cursor = "";
+        while (true) {
+            var started = System.nanoTime();
+            if (started >= measureUntil) {
+                return recorder;
+            }
+
+            var endpoint = mix.pick(random);
+            var ok = false;
+            try {
+                switch (endpoint) {
+                    case "list" -> ok = get("/api/observations?page=" + random.nextInt(pages) + "&size=" + PAGE_SIZE)
+                            .statusCode() == 200;
+                    case "cursor" -> {
+                        var response = get("/api/observations?after=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8)
+                                + "&size=" + PAGE_SIZE);
+                        ok = response.statusCode() == 200;
+                        var next = ok ? objectMapper.readTree(response.body()).path("next") : null;
+                        cursor = next == null || next.isNull() ? "" : next.asText();
+                    }
+                    case "featured" -> ok = get("/api/featured?limit=10").statusCode() == 200;
+                    case "approve" -> {
+                        var id = firstId + random.nextLong(lastId - firstId + 1);
+                        // Without expectedVersion there is no conflict; approving twice is fine
+                        ok = post("/api/observations/" + id + "/approve").statusCode() == 200;
+                    }
+                    default -> throw new IllegalStateException(endpoint);
+                }
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return recorder;
+            }
+
+            if (started >= measureFrom) {
+                recorder.record(endpoint, System.nanoTime() - started, ok);
+            }
+        }
+    }
+
+    private long idAt(String query) throws IOException, InterruptedException {
+        JsonNode content = objectMapper.readTree(get("/api/observations" + query).body()).path("content");
+        return content.isEmpty() ? -1 : content.get(0).path("id").asLong();
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        return http.send(HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path) throws IOException, InterruptedException {
+        return http.send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                        .POST(HttpRequest.BodyPublishers.noBody()).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Weighted choice of endpoint per request.
+     */
+    private record Mix(List<String> endpoints, int[] cumulative) {
+
+        static Mix parse(String spec) {
+            var endpoints = new ArrayList<String>();
+            var weights = new ArrayList<Integer>();
+            for (var part : spec.split(",")) {
+                var kv = part.split("=");
+                var endpoint = kv[0].trim();
+                if (!List.of("list", "cursor", "featured", "approve").contains(endpoint)) {
+                    throw new IllegalArgumentException("Unknown endpoint in mix: " + endpoint);
+                }
+                endpoints.add(endpoint);
+                weights.add(Integer.parseInt(kv[1].trim()));
+            }
+            var cumulative = new int[weights.size()];
+            var sum = 0;
+            for (var i = 0; i < cumulative.length; i++) {
+                sum += weights.get(i);
+                cumulative[i] = sum;
+            }
+            return new Mix(List.copyOf(endpoints), cumulative);
+        }
+
+        String pick(SplittableRandom random) {
+            var pick = random.nextInt(cumulative[cumulative.length - 1]);
+            for (var i = 0; i < cumulative.length; i++) {
+                if (pick < cumulative[i]) {
+                    return endpoints.get(i);
+                }
+            }
+            return endpoints.get(endpoints.size() - 1);
+        }
+
+        @Override
+        public String toString() {
+            var out = new StringBuilder();
+            for (var i = 0; i < cumulative.length; i++) {
+                out.append(i == 0 ? "" : ",").append(endpoints.get(i)).append('=')
+                        .append(cumulative[i] - (i == 0 ? 0 : cumulative[i - 1]));
+            }
+            return out.toString();
+        }
+    }
+}
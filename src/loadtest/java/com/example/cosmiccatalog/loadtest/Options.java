@@ -0,0 +1,66 @@
+package com.example.cosmiccatalog.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Minimal {@code --name=value} command-line options for the load-test tools.
+ */
+final class Options {
+
+    private final Map<String, String> values;
+
+    private Options(Map<String, String> values) {
+        this.values = values;
+    }
+
+    static Options parse(String[] args) {
+        var values = new HashMap<String, String>();
+        for (var arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Expected --name=value but got " + arg);
+            }
+            var eq = arg.indexOf('=');
+            if (eq < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return new Options(values);
+    }
+
+    String get(String name, String defaultValue) {
+        return values.getOrDefault(name, defaultValue);
+    }
+
+    long getLong(String name, long defaultValue) {
+        var value = values.get(name);
+        return value != null ? Long.parseLong(value.replace("_", "")) : defaultValue;
+    }
+
+    int getInt(String name, int defaultValue) {
+        return (int) getLong(name, defaultValue);
+    }
+
+    double getDouble(String name, double defaultValue) {
+        var value = values.get(name);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+
+    boolean has(String name) {
+        return values.containsKey(name);
+    }
+
+    /**
+     * Passes every option whose name starts with {@code prefix} through, name unchanged.
+     */
+    void forEachPrefixed(String prefix, BiConsumer<String, String> action) {
+        values.forEach((name, value) -> {
+            if (name.startsWith(prefix)) {
+                action.accept(name, value);
+            }
+        });
+    }
+}
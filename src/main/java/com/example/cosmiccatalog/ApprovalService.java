@@ -1,47 +1,233 @@
 package com.example.cosmiccatalog;
 
+import com.example.cosmiccatalog.dto.ApprovalBatchResult;
+import com.example.cosmiccatalog.dto.ApprovalRequest;
+import com.example.cosmiccatalog.dto.ApprovalResult;
+import com.example.cosmiccatalog.dto.ObservationDTO;
+import com.example.cosmiccatalog.event.ObservationsApprovedEvent;
 import com.example.cosmiccatalog.exception.EntityNotFoundException;
+import com.example.cosmiccatalog.exception.InvalidApprovalBatchException;
 import com.example.cosmiccatalog.exception.VersionConflictException;
-import org.springframework.cache.annotation.CacheEvict;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Service responsible for observation approval with optimistic locking.
+ * Approvals are timed as {@code catalog.approval}, tagged {@code outcome=approved|conflict|not_found};
+ * bulk approvals as {@code catalog.approval.batch}, with per-item outcomes counted by
+ * {@code catalog.approval.items}.
  */
 @Service
 public class ApprovalService {
 
     private final ObservationRepository observationRepository;
     private final ObservationService observationService;
+    private final ObservationBatchWriter observationBatchWriter;
+    private final ScoringService scoringService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxBatchSize;
+    private final Timer approved;
+    private final Timer conflicts;
+    private final Timer notFound;
+    private final Timer batches;
+    private final MeterRegistry meterRegistry;
 
     public ApprovalService(ObservationRepository observationRepository,
-                          ObservationService observationService) {
+                          ObservationService observationService,
+                          ObservationBatchWriter observationBatchWriter,
+                          ScoringService scoringService,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${app.approval.max-batch-size:1000}") int maxBatchSize,
+                          MeterRegistry meterRegistry) {
         this.observationRepository = observationRepository;
         this.observationService = observationService;
+        this.observationBatchWriter = observationBatchWriter;
+        this.scoringService = scoringService;
+        this.eventPublisher = eventPublisher;
+        this.maxBatchSize = maxBatchSize;
+        this.approved = approvalTimer(meterRegistry, "approved");
+        this.conflicts = approvalTimer(meterRegistry, "conflict");
+        this.notFound = approvalTimer(meterRegistry, "not_found");
+        this.batches = Timer.builder("catalog.approval.batch")
+                .description("Bulk approvals")
+                .register(meterRegistry);
+        this.meterRegistry = meterRegistry;
+    }
+
+    private static Timer approvalTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("catalog.approval")
+                .description("Observation approvals")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
 
     /**
      * Approves an observation with optimistic locking support.
+     * The featured index picks the change up from the entity event once the transaction commits;
+     * an {@link ObservationsApprovedEvent} is published as well, as for a bulk approval of one item.
      * 
      * @param id observation ID
      * @param expectedVersion expected version for optimistic locking (optional)
      * @return approved observation
      * @throws EntityNotFoundException if observation not found
      * @throws VersionConflictException if version mismatch
+     * @throws ObjectOptimisticLockingFailureException if the row changed concurrently before the update
      */
     @Transactional
-    @CacheEvict(value = "featured", allEntries = true)
     public Observation approve(Long id, Integer expectedVersion) {
-        var observation = observationRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Observation", id));
+        var started = System.nanoTime();
+        var observation = observationRepository.findById(id).orElse(null);
+        if (observation == null) {
+            notFound.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            throw new EntityNotFoundException("Observation", id);
+        }
 
         // Check optimistic locking
         if (expectedVersion != null && !expectedVersion.equals(observation.getVersion())) {
+            conflicts.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
             throw new VersionConflictException(id, expectedVersion, observation.getVersion());
         }
 
         observation.setStatus(Observation.Status.APPROVED);
-        return observationService.saveWithScore(observation);
+        Observation saved;
+        try {
+            saved = observationService.saveWithScore(observation);
+            // Flushed so the event carries the new version; listeners see it once the transaction commits
+            observationRepository.flush();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // Changed concurrently after it was read: caught by @Version rather than expectedVersion
+            conflicts.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+        eventPublisher.publishEvent(new ObservationsApprovedEvent(List.of(ObservationDTO.from(saved))));
+        approved.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return saved;
+    }
+
+    /**
+     * Approves many observations with one read and one versioned batch update.
+     * <p>
+     * Items are checked against their expected version first; the rest are rescored and written
+     * in a single {@code UPDATE ... WHERE id = ? AND version = ?} batch, so an item changed by
+     * someone else in the meantime is reported as a conflict rather than overwritten. Conflicts
+     * and missing ids do not fail the batch. One {@link ObservationsApprovedEvent} is published
+     * for all approved items, so the featured view is refreshed once per batch.
+     *
+     * @param requests items to approve, each id at most once
+     * @return per-item outcomes in request order, with totals
+     * @throws InvalidApprovalBatchException if the batch is empty, too large, or repeats an id
+     */
+    @Transactional
+    public ApprovalBatchResult approveAll(List<ApprovalRequest> requests) {
+        validate(requests);
+        var started = System.nanoTime();
+
+        var found = new HashMap<Long, Observation>();
+        for (var observation : observationRepository.findAllById(requests.stream().map(ApprovalRequest::id).toList())) {
+            found.put(observation.getId(), observation);
+        }
+
+        // Items that pass the version check, with the positions of their results
+        var now = LocalDateTime.now();
+        var results = new ApprovalResult[requests.size()];
+        var approvals = new ArrayList<ObservationBatchWriter.Approval>();
+        var written = new ArrayList<ObservationDTO>();
+        var positions = new ArrayList<Integer>();
+        for (var i = 0; i < requests.size(); i++) {
+            var request = requests.get(i);
+            var observation = found.get(request.id());
+            if (observation == null) {
+                results[i] = ApprovalResult.notFound(request.id(), request.expectedVersion());
+            } else if (request.expectedVersion() != null && request.expectedVersion() != observation.getVersion()) {
+                results[i] = ApprovalResult.conflict(request.id(), request.expectedVersion(), observation.getVersion());
+            } else {
+                // Scored without touching the managed entity, so Hibernate has nothing to flush
+                var score = scoringService.calculateScore(observation, now);
+                approvals.add(new ObservationBatchWriter.Approval(observation.getId(), observation.getVersion(), score));
+                written.add(ObservationDTO.from(observation).asApproved(score));
+                positions.add(i);
+            }
+        }
+
+        var applied = observationBatchWriter.approveAll(approvals);
+        var approvedObservations = new ArrayList<ObservationDTO>(approvals.size());
+        for (var j = 0; j < applied.length; j++) {
+            var i = positions.get(j);
+            var request = requests.get(i);
+            if (applied[j]) {
+                results[i] = ApprovalResult.approved(written.get(j), request.expectedVersion());
+                approvedObservations.add(written.get(j));
+            } else {
+                // Changed after it was read; its current version is unknown here
+                results[i] = ApprovalResult.conflict(request.id(), request.expectedVersion(), null);
+            }
+        }
+        if (!approvedObservations.isEmpty()) {
+            eventPublisher.publishEvent(new ObservationsApprovedEvent(approvedObservations));
+        }
+
+        var result = summarize(Arrays.asList(results));
+        batches.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        countItems("approved", result.approved());
+        countItems("conflict", result.conflicts());
+        countItems("not_found", result.notFound());
+        return result;
+    }
+
+    private void validate(List<ApprovalRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new InvalidApprovalBatchException("At least one observation is required");
+        }
+        if (requests.size() > maxBatchSize) {
+            throw new InvalidApprovalBatchException(
+                    "At most " + maxBatchSize + " observations can be approved at once, got " + requests.size());
+        }
+        var ids = new HashSet<Long>();
+        for (var request : requests) {
+            if (request == null || request.id() == null) {
+                throw new InvalidApprovalBatchException("Every item needs an id");
+            }
+            if (!ids.add(request.id())) {
+                throw new InvalidApprovalBatchException("Observation " + request.id() + " is listed more than once");
+            }
+        }
+    }
+
+    private static ApprovalBatchResult summarize(List<ApprovalResult> results) {
+        var approvedCount = 0;
+        var conflictCount = 0;
+        var notFoundCount = 0;
+        for (var result : results) {
+            switch (result.outcome()) {
+                case APPROVED -> approvedCount++;
+                case CONFLICT -> conflictCount++;
+                case NOT_FOUND -> notFoundCount++;
+            }
+        }
+        return new ApprovalBatchResult(approvedCount, conflictCount, notFoundCount, results);
+    }
+
+    private void countItems(String outcome, int count) {
+        if (count > 0) {
+            Counter.builder("catalog.approval.items")
+                    .description("Items of bulk approvals")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .increment(count);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,32 +1,51 @@
 package com.example.cosmiccatalog;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Cache configuration using Caffeine.
+ * <p>
+ * Each cached query shape gets its own region with its own size and TTL, so values of
+ * different types never share a cache name. Only the regions declared here exist: asking
+ * for any other name fails instead of silently creating a cache with default settings.
+ * Every region records hit/miss statistics (see {@code GET /api/cache/stats}), which Spring Boot
+ * also binds as {@code cache.gets}, {@code cache.puts} and {@code cache.evictions} meters tagged
+ * with the region name, since regions are registered before startup completes.
  */
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    /**
+     * Top-N observations of any status by score, as shown on the homepage.
+     * Keyed by {@link FeaturedResultsCache.TopScoredKey}.
+     */
+    public static final String TOP_SCORED = "featured.top-scored";
+
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(
+            @Value("${app.cache.top-scored.maximum-size:100}") long topScoredMaximumSize,
+            @Value("${app.cache.top-scored.expire-after-write-seconds:300}") long topScoredTtlSeconds) {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.setCaffeine(caffeineBuilder());
+        cacheManager.setCacheNames(List.of()); // static: no caches beyond the regions below
+        region(cacheManager, TOP_SCORED, topScoredMaximumSize, topScoredTtlSeconds);
         return cacheManager;
     }
 
-    private Caffeine<Object, Object> caffeineBuilder() {
-        return Caffeine.newBuilder()
-                .maximumSize(500)
-                .expireAfterWrite(5, TimeUnit.MINUTES)
-                .recordStats();
+    private static void region(CaffeineCacheManager cacheManager, String name, long maximumSize, long ttlSeconds) {
+        cacheManager.registerCustomCache(name, Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build());
     }
-}
\ No newline at end of file
+}
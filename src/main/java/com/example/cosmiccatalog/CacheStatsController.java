@@ -0,0 +1,50 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.dto.CacheRegionStats;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * REST endpoint reporting per-region cache statistics.
+ */
+@RestController
+public class CacheStatsController {
+
+    private final CacheManager cacheManager;
+
+    public CacheStatsController(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Operation(summary = "Get cache statistics",
+               description = "Size, settings, hits, misses, hit rate and evictions of each cache region")
+    @GetMapping("/api/cache/stats")
+    public List<CacheRegionStats> getStats() {
+        return cacheManager.getCacheNames().stream()
+                .sorted()
+                .map(name -> stats(name, (CaffeineCache) cacheManager.getCache(name)))
+                .toList();
+    }
+
+    private static CacheRegionStats stats(String name, CaffeineCache cache) {
+        var nativeCache = cache.getNativeCache();
+        var stats = nativeCache.stats();
+        var policy = nativeCache.policy();
+        return new CacheRegionStats(
+                name,
+                nativeCache.estimatedSize(),
+                policy.eviction().map(Policy.Eviction::getMaximum).orElse(-1L),
+                policy.expireAfterWrite().map(expiry -> expiry.getExpiresAfter(TimeUnit.SECONDS)).orElse(-1L),
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount());
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.event.ObservationChangedEvent;
+import com.example.cosmiccatalog.event.ObservationsApprovedEvent;
+import com.example.cosmiccatalog.event.ObservationsImportedEvent;
+import com.example.cosmiccatalog.event.ObservationsRescoredEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cheap token for "has the observation catalog changed", used as the ETag of read endpoints.
+ * <p>
+ * The token is an epoch, fixed per application start, plus a counter bumped by every committed
+ * observation change: JPA writes, bulk approvals, rescoring and imports. Comparing it costs no
+ * query, so a matching {@code If-None-Match} is answered with 304 before anything is read.
+ * <p>
+ * The listeners run last among the change listeners, after {@link FeaturedIndex} and the caches
+ * have applied the same event, and controllers read the token before their query; a response
+ * may then carry an older token than its data, which only costs the client one more full
+ * response, but never a newer one. Writes that bypass the application (manual SQL, other
+ * instances) are not seen until restart.
+ */
+@Component
+public class CatalogChangeToken {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Returns the current token as a weak entity tag, e.g. {@code W/"m3k2x1a9-42"}.
+     */
+    public String etag() {
+        return "W/\"" + epoch + "-" + generation.get() + "\"";
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    void onObservationChanged(ObservationChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    void onObservationsApproved(ObservationsApprovedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    void onObservationsRescored(ObservationsRescoredEvent event) {
+        generation.incrementAndGet();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    void onObservationsImported(ObservationsImportedEvent event) {
+        if (event.inserted() > 0) {
+            generation.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.event.ImportProgressedEvent;
+import com.example.cosmiccatalog.event.ObservationChangedEvent;
+import com.example.cosmiccatalog.event.ObservationsImportedEvent;
+import com.example.cosmiccatalog.event.TargetsChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Maintained observation and target counts and last import time, so {@code /health} does not
+ * query the database on every call.
+ * <p>
+ * Counts are exact at startup and then move with committed change events: JPA inserts and
+ * deletes of either entity, and JDBC batch inserts from imports. Every
+ * {@code app.health.reconcile-interval} they are recounted from the database, which also picks
+ * up writes that bypass both paths (manual SQL, other instances). That interval is the
+ * staleness bound; within one instance the counts are current as soon as a write commits.
+ * <p>
+ * Each count is a base plus the sum of deltas applied since startup. A reconciliation notes the
+ * delta sum before it counts and rebases on it, so events that commit while the count query
+ * runs are kept rather than lost; only a commit landing between that note and the query's
+ * snapshot is counted twice, until the next reconciliation.
+ * <p>
+ * The last import time moves forward as imports complete or fail and is re-read from the
+ * import batches on every reconciliation.
+ */
+@Component
+public class CatalogCounts implements ApplicationRunner {
+    private static final Logger logger = LoggerFactory.getLogger(CatalogCounts.class);
+
+    /**
+     * Counts at one point in time.
+     *
+     * @param observations observation rows
+     * @param targets target rows
+     * @param reconciledAt when the counts were last taken from the database
+     * @param lastImport when the most recent import finished, or null if none has
+     */
+    public record Snapshot(long observations, long targets, LocalDateTime reconciledAt, LocalDateTime lastImport) {
+    }
+
+    private final ObservationRepository observationRepository;
+    private final TargetRepository targetRepository;
+    private final ImportBatchRepository importBatchRepository;
+
+    private final MaintainedCount observations = new MaintainedCount();
+    private final MaintainedCount targets = new MaintainedCount();
+    private final AtomicReference<LocalDateTime> lastImport = new AtomicReference<>();
+    private volatile LocalDateTime reconciledAt;
+
+    public CatalogCounts(ObservationRepository observationRepository, TargetRepository targetRepository,
+                         ImportBatchRepository importBatchRepository) {
+        this.observationRepository = observationRepository;
+        this.targetRepository = targetRepository;
+        this.importBatchRepository = importBatchRepository;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            reconcile();
+        } catch (DataAccessException e) {
+            logger.warn("Could not count the catalog at startup; counts start at zero until the next reconciliation", e);
+        }
+    }
+
+    /**
+     * Returns the maintained counts. Does not touch the database.
+     */
+    public Snapshot current() {
+        return new Snapshot(observations.value(), targets.value(), reconciledAt, lastImport.get());
+    }
+
+    /**
+     * Counts both tables, rebases the maintained counts on the result and re-reads the last
+     * import time.
+     *
+     * @return the exact counts
+     */
+    public Snapshot reconcile() {
+        var observationCount = observations.rebase(observationRepository::count);
+        var targetCount = targets.rebase(targetRepository::count);
+        var lastCompleted = importBatchRepository.findTopByStatusOrderByCompletedAtDesc(ImportBatch.Status.SUCCEEDED)
+                .map(ImportBatch::getCompletedAt)
+                .orElse(null);
+        lastImport.set(lastCompleted);
+        reconciledAt = LocalDateTime.now();
+        return new Snapshot(observationCount, targetCount, reconciledAt, lastCompleted);
+    }
+
+    @Scheduled(initialDelayString = "${app.health.reconcile-interval:PT5M}",
+               fixedDelayString = "${app.health.reconcile-interval:PT5M}")
+    void scheduledReconcile() {
+        try {
+            var before = current();
+            var exact = reconcile();
+            if (before.observations() != exact.observations() || before.targets() != exact.targets()) {
+                logger.debug("Reconciled catalog counts from {}/{} to {}/{}", before.observations(), before.targets(),
+                        exact.observations(), exact.targets());
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Could not reconcile catalog counts", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onObservationChanged(ObservationChangedEvent event) {
+        switch (event.change()) {
+            case CREATED -> observations.add(1);
+            case DELETED -> observations.add(-1);
+            case UPDATED -> { }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onObservationsImported(ObservationsImportedEvent event) {
+        observations.add(event.inserted());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onTargetsChanged(TargetsChangedEvent event) {
+        targets.add(event.delta());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onImportProgressed(ImportProgressedEvent event) {
+        // Only a successful import counts as the last import; failures also carry a completedAt
+        var completedAt = event.progress().completedAt();
+        if (event.progress().status() == ImportBatch.Status.SUCCEEDED && completedAt != null) {
+            lastImport.accumulateAndGet(completedAt,
+                    (previous, next) -> previous == null || next.isAfter(previous) ? next : previous);
+        }
+    }
+
+    /**
+     * Base from the last count plus deltas applied since it; lock-free for readers and writers.
+     */
+    private static final class MaintainedCount {
+        private final AtomicLong deltas = new AtomicLong();
+        private volatile long base;
+
+        void add(long delta) {
+            deltas.addAndGet(delta);
+        }
+
+        long value() {
+            return Math.max(0, base + deltas.get());
+        }
+
+        long rebase(LongSupplier exactCount) {
+            var mark = deltas.get();
+            var exact = exactCount.getAsLong();
+            base = exact - mark;
+            return exact;
+        }
+    }
+}
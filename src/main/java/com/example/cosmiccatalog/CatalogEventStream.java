@@ -0,0 +1,291 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.event.ImportProgressedEvent;
+import com.example.cosmiccatalog.event.ObservationsApprovedEvent;
+import com.example.cosmiccatalog.event.ObservationsRescoredEvent;
+import com.example.cosmiccatalog.exception.TooManySubscribersException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fans committed catalog changes out to Server-Sent Events subscribers.
+ * <p>
+ * Domain events are turned into feed events once: approvals ({@code approved}), score changes
+ * ({@code scores}) and import progress ({@code import}), each serialized to JSON a single time
+ * and shared by every subscriber. Publishing never blocks: each subscriber has a bounded buffer
+ * drained by its own virtual thread, so a slow client only delays itself. Import progress is
+ * coalesced per import, keeping just the latest. When a buffer is full, new events for that
+ * subscriber are dropped and it is sent a {@code resync} event with the number dropped, telling
+ * the client to reload from the REST API. Idle streams get a comment every heartbeat so proxies
+ * keep them open and closed clients are noticed.
+ */
+@Component
+public class CatalogEventStream {
+    private static final Logger logger = LoggerFactory.getLogger(CatalogEventStream.class);
+
+    /**
+     * Feed event names a subscriber can filter on.
+     */
+    public static final Set<String> TYPES = Set.of("approved", "scores", "import");
+
+    /**
+     * One serialized feed event. Events with the same {@code coalesceKey} replace each other
+     * while waiting in a buffer.
+     */
+    record FeedEvent(long id, String type, String json, String coalesceKey) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final int bufferCapacity;
+    private final Duration heartbeat;
+    private final long timeoutMillis;
+    private final int maxSubscribers;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // Slots taken, reserved before a subscriber is added and released when it is removed
+    private final AtomicInteger reserved = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong subscriberIds = new AtomicLong();
+    private final Counter droppedEvents;
+
+    public CatalogEventStream(ObjectMapper objectMapper,
+                              @Value("${app.events.buffer-capacity:256}") int bufferCapacity,
+                              @Value("${app.events.heartbeat:PT15S}") Duration heartbeat,
+                              @Value("${app.events.timeout:PT30M}") Duration timeout,
+                              @Value("${app.events.max-subscribers:1000}") int maxSubscribers,
+                              MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.bufferCapacity = bufferCapacity;
+        this.heartbeat = heartbeat;
+        this.timeoutMillis = timeout.toMillis();
+        this.maxSubscribers = maxSubscribers;
+        Gauge.builder("catalog.events.subscribers", subscribers, Set::size)
+                .description("Connected event stream subscribers")
+                .register(meterRegistry);
+        this.droppedEvents = Counter.builder("catalog.events.dropped")
+                .description("Feed events dropped because a subscriber's buffer was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream for one client.
+     *
+     * @param types event names to receive; empty for all
+     * @return the emitter to return from the controller
+     * @throws TooManySubscribersException if {@code app.events.max-subscribers} streams are already open
+     */
+    public SseEmitter subscribe(Set<String> types) {
+        reserveSlot();
+        var emitter = new SseEmitter(timeoutMillis);
+        var subscriber = new Subscriber(emitter, types, new SubscriberBuffer(bufferCapacity));
+        subscribers.add(subscriber);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        subscriber.start();
+        return emitter;
+    }
+
+    private void reserveSlot() {
+        int taken;
+        do {
+            taken = reserved.get();
+            if (taken >= maxSubscribers) {
+                throw new TooManySubscribersException(maxSubscribers);
+            }
+        } while (!reserved.compareAndSet(taken, taken + 1));
+    }
+
+    /**
+     * Number of open streams.
+     */
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    void closeAll() {
+        for (var subscriber : subscribers) {
+            subscriber.close();
+            subscriber.emitter.complete();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onObservationsApproved(ObservationsApprovedEvent event) {
+        publish("approved", event.observations(), null);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onObservationsRescored(ObservationsRescoredEvent event) {
+        publish("scores", event.updates(), null);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onImportProgressed(ImportProgressedEvent event) {
+        publish("import", event.progress(), "import:" + event.progress().id());
+    }
+
+    private void publish(String type, Object payload, String coalesceKey) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            logger.warn("Could not serialize {} feed event", type, e);
+            return;
+        }
+        var event = new FeedEvent(sequence.incrementAndGet(), type, json, coalesceKey);
+        for (var subscriber : subscribers) {
+            if (subscriber.accepts(type) && !subscriber.buffer.offer(event)) {
+                droppedEvents.increment();
+            }
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<String> types;
+        private final SubscriberBuffer buffer;
+        private volatile Thread sender;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, Set<String> types, SubscriberBuffer buffer) {
+            this.emitter = emitter;
+            this.types = types;
+            this.buffer = buffer;
+        }
+
+        boolean accepts(String type) {
+            return types.isEmpty() || types.contains(type);
+        }
+
+        void start() {
+            sender = Thread.ofVirtual().name("event-stream-" + subscriberIds.incrementAndGet()).start(this::run);
+        }
+
+        void close() {
+            closed = true;
+            // Completion, timeout, error and the sender all close; only the first frees the slot
+            if (subscribers.remove(this)) {
+                reserved.decrementAndGet();
+            }
+            var thread = sender;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+
+        private void run() {
+            try {
+                while (!closed) {
+                    var batch = buffer.drain(heartbeat);
+                    if (batch.dropped() > 0) {
+                        emitter.send(SseEmitter.event().name("resync")
+                                .data(Map.of("dropped", batch.dropped()), MediaType.APPLICATION_JSON));
+                    }
+                    for (var event : batch.events()) {
+                        emitter.send(SseEmitter.event().id(Long.toString(event.id())).name(event.type())
+                                .data(event.json(), MediaType.APPLICATION_JSON));
+                    }
+                    if (batch.isEmpty()) {
+                        emitter.send(SseEmitter.event().comment("keepalive"));
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | IllegalStateException e) {
+                // Client went away (the container completes the request) or the emitter already completed
+                logger.debug("Event stream closed: {}", e.toString());
+            } finally {
+                close();
+            }
+        }
+    }
+
+    /**
+     * Bounded, coalescing buffer between publishers and one subscriber's sender.
+     * Publishers never wait; the sender takes everything buffered at once.
+     */
+    static final class SubscriberBuffer {
+        private final int capacity;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notEmpty = lock.newCondition();
+        private final Map<Object, FeedEvent> pending = new LinkedHashMap<>();
+        private long dropped;
+
+        SubscriberBuffer(int capacity) {
+            this.capacity = Math.max(1, capacity);
+        }
+
+        /**
+         * @return false if the event was dropped because the buffer is full
+         */
+        boolean offer(FeedEvent event) {
+            Object key = event.coalesceKey() != null ? event.coalesceKey() : event.id();
+            lock.lock();
+            try {
+                // A coalesced event moves to the back, as it is now the newest
+                if (pending.remove(key) == null && pending.size() >= capacity) {
+                    dropped++;
+                    return false;
+                }
+                pending.put(key, event);
+                notEmpty.signal();
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Waits up to {@code timeout} for events, then takes all of them and the drop count.
+         */
+        Batch drain(Duration timeout) throws InterruptedException {
+            lock.lock();
+            try {
+                var remaining = timeout.toNanos();
+                while (pending.isEmpty() && dropped == 0 && remaining > 0) {
+                    remaining = notEmpty.awaitNanos(remaining);
+                }
+                var batch = new Batch(new ArrayList<>(pending.values()), dropped);
+                pending.clear();
+                dropped = 0;
+                return batch;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    record Batch(List<FeedEvent> events, long dropped) {
+        boolean isEmpty() {
+            return events.isEmpty() && dropped == 0;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.exception.InvalidScoringRulesException;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable, evaluation-ready form of {@link ScoringRules}.
+ * <p>
+ * Every rule group is flattened into parallel arrays in evaluation order, and filter
+ * patterns are compiled to {@link FilterCodeMatcher}s, so {@link #score} is a few array
+ * scans with no allocation. Recency thresholds depend on "now"; callers compute them once
+ * with {@link #recencyCutoffs(LocalDateTime)} and reuse them for a whole batch.
+ */
+public final class CompiledScoringRules {
+
+    private final ScoringRules source;
+
+    private final int[] exposureMinSeconds;
+    private final int[] exposurePoints;
+    private final int[] recencyMaxAgeDays;
+    private final int[] recencyPoints;
+    private final String[] instrumentKeywords;
+    private final int[] instrumentPoints;
+    private final FilterCodeMatcher[] filterMatchers;
+    private final int[] filterPoints;
+    private final int maxScore;
+
+    private CompiledScoringRules(ScoringRules source) {
+        this.source = source;
+
+        // Longest threshold first, so the first match is the best one
+        var exposure = source.exposure().stream()
+                .sorted(Comparator.comparingInt(ScoringRules.ExposureRule::minSeconds).reversed())
+                .toList();
+        this.exposureMinSeconds = exposure.stream().mapToInt(ScoringRules.ExposureRule::minSeconds).toArray();
+        this.exposurePoints = exposure.stream().mapToInt(ScoringRules.ExposureRule::points).toArray();
+
+        // Most recent window first
+        var recency = source.recency().stream()
+                .sorted(Comparator.comparingInt(ScoringRules.RecencyRule::maxAgeDays))
+                .toList();
+        this.recencyMaxAgeDays = recency.stream().mapToInt(ScoringRules.RecencyRule::maxAgeDays).toArray();
+        this.recencyPoints = recency.stream().mapToInt(ScoringRules.RecencyRule::points).toArray();
+
+        // Instrument and filter rules keep file order
+        this.instrumentKeywords = source.instrument().stream()
+                .map(ScoringRules.InstrumentRule::contains).toArray(String[]::new);
+        this.instrumentPoints = source.instrument().stream().mapToInt(ScoringRules.InstrumentRule::points).toArray();
+        this.filterMatchers = source.filters().stream()
+                .map(rule -> FilterCodeMatcher.compile(rule.pattern())).toArray(FilterCodeMatcher[]::new);
+        this.filterPoints = source.filters().stream().mapToInt(ScoringRules.FilterRule::points).toArray();
+
+        this.maxScore = source.maxScore();
+    }
+
+    /**
+     * Validates and compiles a rule set.
+     *
+     * @param rules rules to compile
+     * @return compiled rules
+     * @throws InvalidScoringRulesException if the rules are incomplete or malformed
+     */
+    public static CompiledScoringRules compile(ScoringRules rules) {
+        if (rules == null || rules.exposure() == null || rules.recency() == null
+                || rules.instrument() == null || rules.filters() == null) {
+            throw new InvalidScoringRulesException("exposure, recency, instrument and filters rules are required");
+        }
+        if (rules.maxScore() <= 0) {
+            throw new InvalidScoringRulesException("maxScore must be positive");
+        }
+        requireNoNulls(rules.exposure(), "exposure");
+        requireNoNulls(rules.recency(), "recency");
+        requireNoNulls(rules.instrument(), "instrument");
+        requireNoNulls(rules.filters(), "filters");
+        if (rules.recency().stream().anyMatch(rule -> rule.maxAgeDays() <= 0)) {
+            throw new InvalidScoringRulesException("recency maxAgeDays must be positive");
+        }
+        if (rules.instrument().stream().anyMatch(rule -> rule.contains() == null || rule.contains().isEmpty())) {
+            throw new InvalidScoringRulesException("instrument rules need a non-empty 'contains' keyword");
+        }
+
+        try {
+            return new CompiledScoringRules(rules);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidScoringRulesException(e.getMessage());
+        }
+    }
+
+    /**
+     * Rules this instance was compiled from.
+     */
+    public ScoringRules source() {
+        return source;
+    }
+
+    /**
+     * Computes the recency thresholds for a given "now", in evaluation order.
+     */
+    public LocalDateTime[] recencyCutoffs(LocalDateTime now) {
+        var cutoffs = new LocalDateTime[recencyMaxAgeDays.length];
+        for (var i = 0; i < cutoffs.length; i++) {
+            cutoffs[i] = now.minusDays(recencyMaxAgeDays[i]);
+        }
+        return cutoffs;
+    }
+
+    /**
+     * Scores an observation.
+     *
+     * @param observation observation to score
+     * @param recencyCutoffs thresholds from {@link #recencyCutoffs(LocalDateTime)}
+     * @return score between 0 and maxScore
+     */
+    public int score(Observation observation, LocalDateTime[] recencyCutoffs) {
+        var totalScore = exposureScore(observation.getExposureSec())
+                + recencyScore(observation.getObsDate(), recencyCutoffs)
+                + instrumentScore(observation.getInstrument())
+                + filterScore(observation.getFilters());
+
+        // Easter egg: "Don't Panic" - properly implemented
+        if (totalScore == 42) {
+            // Score of 42 triggers special badge in UI
+            return 42; // The Answer to Life, the Universe, and Everything
+        }
+
+        return Math.min(maxScore, totalScore);
+    }
+
+    private int exposureScore(int exposureSec) {
+        for (var i = 0; i < exposureMinSeconds.length; i++) {
+            if (exposureSec > exposureMinSeconds[i]) return exposurePoints[i];
+        }
+        return 0;
+    }
+
+    private int recencyScore(LocalDateTime obsDate, LocalDateTime[] cutoffs) {
+        // Same as "fewer than maxAgeDays whole days old", without building a Duration
+        if (obsDate == null) return 0;
+        for (var i = 0; i < cutoffs.length; i++) {
+            if (obsDate.isAfter(cutoffs[i])) return recencyPoints[i];
+        }
+        return 0;
+    }
+
+    private int instrumentScore(String instrument) {
+        if (instrument == null) return 0;
+        for (var i = 0; i < instrumentKeywords.length; i++) {
+            if (instrument.contains(instrumentKeywords[i])) return instrumentPoints[i];
+        }
+        return 0;
+    }
+
+    private int filterScore(String filters) {
+        for (var i = 0; i < filterMatchers.length; i++) {
+            if (filterMatchers[i].matches(filters)) return filterPoints[i];
+        }
+        return 0;
+    }
+
+    private static void requireNoNulls(List<?> rules, String group) {
+        if (rules.stream().anyMatch(rule -> rule == null)) {
+            throw new InvalidScoringRulesException(group + " rules must not contain null entries");
+        }
+    }
+}
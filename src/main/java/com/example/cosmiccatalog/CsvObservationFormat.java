@@ -0,0 +1,36 @@
+package com.example.cosmiccatalog;
+
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+
+/**
+ * Comma-separated values with a header row naming the observation fields.
+ */
+@Component
+public class CsvObservationFormat implements ObservationFormat {
+
+    public static final String MEDIA_TYPE = "text/csv";
+
+    @Override
+    public String name() {
+        return "csv";
+    }
+
+    @Override
+    public Set<String> mediaTypes() {
+        return Set.of(MEDIA_TYPE, "application/csv");
+    }
+
+    @Override
+    public Set<String> extensions() {
+        return Set.of("csv");
+    }
+
+    @Override
+    public ObservationReader open(InputStream input) throws IOException {
+        return new ObservationCsvStreamReader(input);
+    }
+}
@@ -4,4 +4,8 @@ import java.util.Optional;
 
 public interface DeDupService {
     Optional<Observation> findDuplicate(Observation observation);
+
+    boolean isDuplicate(Observation existing, Observation fresh);
+
+    DuplicateIndex newIndex();
 }
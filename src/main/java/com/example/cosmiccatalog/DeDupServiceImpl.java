@@ -1,50 +1,120 @@
 package com.example.cosmiccatalog;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class DeDupServiceImpl implements DeDupService {
 
+    /**
+     * Threshold of ~5 arcseconds for near-duplicate detection, applied to RA and Dec separately.
+     */
+    static final double THRESHOLD_ARCSEC = 5.0;
+
     private final ObservationRepository observationRepository;
+    private final Timer duplicateLookups;
+    private final Timer uniqueLookups;
+    private final DistributionSummary lookupCandidates;
+    private final Timer indexLoads;
+    private final DistributionSummary indexCandidates;
 
-    public DeDupServiceImpl(ObservationRepository observationRepository) {
+    /**
+     * Meters: {@code catalog.dedup.lookup} (tagged {@code result=duplicate|unique}, so the hit
+     * ratio is duplicate over total) and {@code catalog.dedup.candidates} for single lookups;
+     * {@code catalog.dedup.index.load} and the candidates summary tagged {@code path=index}
+     * for the catalog groups loaded by import indexes.
+     */
+    public DeDupServiceImpl(ObservationRepository observationRepository, MeterRegistry meterRegistry) {
         this.observationRepository = observationRepository;
+        this.duplicateLookups = Timer.builder("catalog.dedup.lookup")
+                .description("Near-duplicate lookups against the catalog")
+                .tag("result", "duplicate")
+                .register(meterRegistry);
+        this.uniqueLookups = Timer.builder("catalog.dedup.lookup")
+                .description("Near-duplicate lookups against the catalog")
+                .tag("result", "unique")
+                .register(meterRegistry);
+        this.lookupCandidates = candidates(meterRegistry, "lookup");
+        this.indexLoads = Timer.builder("catalog.dedup.index.load")
+                .description("Loads of one telescope/target/filters group into an import's dedup index")
+                .register(meterRegistry);
+        this.indexCandidates = candidates(meterRegistry, "index");
+    }
+
+    private static DistributionSummary candidates(MeterRegistry meterRegistry, String path) {
+        return DistributionSummary.builder("catalog.dedup.candidates")
+                .description("Catalog rows examined per lookup or loaded per index group")
+                .baseUnit("rows")
+                .tag("path", path)
+                .register(meterRegistry);
     }
 
     @Override
     public Optional<Observation> findDuplicate(Observation newObservation) {
+        var started = System.nanoTime();
         var candidates = observationRepository.findByTelescopeAndTargetNameAndFilters(
                 newObservation.getTelescope(), newObservation.getTargetName(), newObservation.getFilters());
 
-        return candidates.stream()
-                .filter(candidate -> isDuplicate(candidate, newObservation))
-                .findFirst();
+        Observation duplicate = null;
+        var examined = 0;
+        for (var candidate : candidates) {
+            examined++;
+            if (isDuplicate(candidate, newObservation)) {
+                duplicate = candidate;
+                break;
+            }
+        }
+
+        lookupCandidates.record(examined);
+        (duplicate != null ? duplicateLookups : uniqueLookups).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return Optional.ofNullable(duplicate);
+    }
+
+    @Override
+    public DuplicateIndex newIndex() {
+        return new DuplicateIndex(key -> {
+            var started = System.nanoTime();
+            var rows = observationRepository.findPositionsByGroup(
+                    key.telescope(), key.targetName(), key.filters());
+            indexLoads.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            indexCandidates.record(rows.size());
+            return rows;
+        });
+    }
+
+    @Override
+    public boolean isDuplicate(Observation existing, Observation fresh) {
+        return Objects.equals(existing.getTelescope(), fresh.getTelescope())
+                && Objects.equals(existing.getTargetName(), fresh.getTargetName())
+                && Objects.equals(existing.getFilters(), fresh.getFilters())
+                && isWithinThreshold(existing.getRa(), existing.getDec(), fresh.getRa(), fresh.getDec());
     }
 
-    private boolean isDuplicate(Observation existing, Observation fresh) {
-        // Using pattern matching with record patterns would be ideal here with DTOs
-        // For now, using var for type inference
-        
-        var raDiff = Math.abs(existing.getRa() - fresh.getRa()) * 3600; // degrees to arcseconds
-        var decDiff = Math.abs(existing.getDec() - fresh.getDec()) * 3600; // degrees to arcseconds
+    /**
+     * Proximity half of the duplicate check, shared with {@link DuplicateIndex}.
+     */
+    static boolean isWithinThreshold(double existingRa, double existingDec, double freshRa, double freshDec) {
+        var raDiff = Math.abs(existingRa - freshRa) * 3600; // degrees to arcseconds
+        var decDiff = Math.abs(existingDec - freshDec) * 3600; // degrees to arcseconds
 
-        // Threshold of ~5 arcseconds for near-duplicate detection
-        var threshold = 5.0;
-        
         // Modern approach: could use pattern matching in future iterations
-        return switch (checkProximity(raDiff, decDiff, threshold)) {
+        return switch (checkProximity(raDiff, decDiff, THRESHOLD_ARCSEC)) {
             case DUPLICATE -> true;
             case DISTINCT -> false;
         };
     }
-    
+
     private enum ProximityResult { DUPLICATE, DISTINCT }
-    
-    private ProximityResult checkProximity(double raDiff, double decDiff, double threshold) {
-        return (raDiff < threshold && decDiff < threshold) 
-            ? ProximityResult.DUPLICATE 
+
+    private static ProximityResult checkProximity(double raDiff, double decDiff, double threshold) {
+        return (raDiff < threshold && decDiff < threshold)
+            ? ProximityResult.DUPLICATE
             : ProximityResult.DISTINCT;
     }
 }
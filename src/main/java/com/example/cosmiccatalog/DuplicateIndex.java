@@ -0,0 +1,116 @@
+package com.example.cosmiccatalog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * In-memory index for near-duplicate detection during a single import.
+ * <p>
+ * Observations are grouped by telescope, target and filters, then bucketed into a
+ * declination-banded grid whose cells are one duplicate threshold wide. A lookup probes
+ * the observation's own cell and its eight neighbours instead of scanning every candidate.
+ * Existing catalog rows of a group are loaded once, the first time the group is seen, and
+ * rows accepted during the import are added as they go, so duplicates inside the same
+ * file are caught as well.
+ * <p>
+ * Only coordinates are kept per row: catalog groups are loaded through a ra/dec projection,
+ * never as entities. The index is scoped to one import and is not bounded; it grows by one
+ * {@link Position} per catalog row of each group the import touches plus one per accepted
+ * row, and is dropped when the import ends. Evicting positions would let duplicates inside
+ * the same file through, so very large files are best split. Instances are not thread-safe.
+ */
+public class DuplicateIndex {
+
+    private static final double CELL_SIZE_DEG = DeDupServiceImpl.THRESHOLD_ARCSEC / 3600.0;
+
+    private final Function<Key, List<Position>> catalogLoader;
+    private final Map<Key, Map<Long, List<Position>>> groups = new HashMap<>();
+
+    /**
+     * @param catalogLoader loads the positions of the existing catalog rows for a
+     *                      telescope/target/filters group
+     */
+    public DuplicateIndex(Function<Key, List<Position>> catalogLoader) {
+        this.catalogLoader = catalogLoader;
+    }
+
+    /**
+     * Checks whether an observation is a near-duplicate of a catalog row or of a row added earlier.
+     *
+     * @param fresh incoming observation
+     * @return true if a row within the threshold exists in the same group
+     */
+    public boolean isDuplicate(Observation fresh) {
+        var cells = cellsFor(Key.of(fresh));
+        var raCell = cellOf(fresh.getRa());
+        var decCell = cellOf(fresh.getDec());
+
+        for (var dDec = -1; dDec <= 1; dDec++) {
+            for (var dRa = -1; dRa <= 1; dRa++) {
+                var positions = cells.get(pack(raCell + dRa, decCell + dDec));
+                if (positions == null) {
+                    continue;
+                }
+                for (var position : positions) {
+                    if (DeDupServiceImpl.isWithinThreshold(position.ra(), position.dec(),
+                            fresh.getRa(), fresh.getDec())) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds an accepted observation, so later rows of the same import are checked against it.
+     *
+     * @param accepted observation that will be written to the catalog
+     */
+    public void add(Observation accepted) {
+        insert(cellsFor(Key.of(accepted)), new Position(accepted.getRa(), accepted.getDec()));
+    }
+
+    private Map<Long, List<Position>> cellsFor(Key key) {
+        var cells = groups.get(key);
+        if (cells == null) {
+            cells = new HashMap<>();
+            for (var existing : catalogLoader.apply(key)) {
+                insert(cells, existing);
+            }
+            groups.put(key, cells);
+        }
+        return cells;
+    }
+
+    private static void insert(Map<Long, List<Position>> cells, Position position) {
+        cells.computeIfAbsent(pack(cellOf(position.ra()), cellOf(position.dec())), cell -> new ArrayList<>(2))
+                .add(position);
+    }
+
+    private static long cellOf(double degrees) {
+        return (long) Math.floor(degrees / CELL_SIZE_DEG);
+    }
+
+    private static long pack(long raCell, long decCell) {
+        return (decCell << 32) | (raCell & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Dedup group: only observations sharing telescope, target and filters can be duplicates.
+     */
+    public record Key(String telescope, String targetName, String filters) {
+        static Key of(Observation observation) {
+            return new Key(observation.getTelescope(), observation.getTargetName(), observation.getFilters());
+        }
+    }
+
+    /**
+     * Coordinates of one catalog or accepted row, in degrees.
+     */
+    public record Position(double ra, double dec) {
+    }
+}
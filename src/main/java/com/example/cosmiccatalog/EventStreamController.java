@@ -0,0 +1,41 @@
+package com.example.cosmiccatalog;
+
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.constraints.Pattern;
+import org.springframework.http.MediaType;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+
+/**
+ * Server-Sent Events stream of catalog changes, for dashboards that would otherwise poll.
+ */
+@RestController
+@Validated
+public class EventStreamController {
+
+    private final CatalogEventStream catalogEventStream;
+
+    public EventStreamController(CatalogEventStream catalogEventStream) {
+        this.catalogEventStream = catalogEventStream;
+    }
+
+    /**
+     * Opens an event stream.
+     *
+     * @param types event names to receive (approved, scores, import); all when omitted
+     * @return the stream
+     */
+    @Operation(summary = "Stream catalog changes",
+               description = "Server-Sent Events: approved (observations), scores (score changes) and import (progress, "
+                       + "latest per import). A resync event means events were dropped for this slow client; reload from the REST API")
+    @GetMapping(value = "/api/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(
+            @RequestParam(required = false) Set<@Pattern(regexp = "approved|scores|import") String> types) {
+        return catalogEventStream.subscribe(types != null ? types : Set.of());
+    }
+}
@@ -1,54 +1,94 @@
 package com.example.cosmiccatalog;
 
-import com.example.cosmiccatalog.dto.ObservationDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.io.IOException;
 
 /**
  * REST endpoint for featured observations.
- * Returns top-N approved observations sorted by score.
+ * Returns top-N approved observations sorted by score, served from the {@link FeaturedIndex}
+ * as payloads already encoded by {@link FeaturedPayloads}.
+ * Responses carry the {@link CatalogChangeToken} as ETag, so unchanged polls get a 304.
  */
 @RestController
 @Validated
 public class FeaturedController {
 
-    private final ObservationRepository observationRepository;
+    private final FeaturedPayloads featuredPayloads;
+    private final CatalogChangeToken changeToken;
 
-    public FeaturedController(ObservationRepository observationRepository) {
-        this.observationRepository = observationRepository;
+    public FeaturedController(FeaturedPayloads featuredPayloads, CatalogChangeToken changeToken) {
+        this.featuredPayloads = featuredPayloads;
+        this.changeToken = changeToken;
     }
 
     /**
-     * Returns top-N approved observations sorted by score desc.
+     * Returns top-N approved observations sorted by score desc, written as JSON bytes
+     * (gzip-compressed when the client accepts it and the payload is large enough).
      *
      * @param limit maximum number of results (1-100, default 10)
-     * @return list of ObservationDTO
+     * @param request used for the {@code If-None-Match} check and {@code Accept-Encoding}
+     * @param response receives the encoded payload, or nothing with 304 Not Modified
+     * @throws IOException if the client went away
      */
     @Operation(summary = "Get featured observations", 
-               description = "Returns top approved observations sorted by score")
+               description = "Returns top approved observations sorted by score. "
+                       + "Send the returned ETag as If-None-Match to get 304 while nothing changed")
     @GetMapping("/api/featured")
-    @Cacheable(value = "featured", key = "#limit")
-    public List<ObservationDTO> getFeatured(
+    public void getFeatured(
             @Parameter(description = "Maximum number of observations to return (1-100)")
             @RequestParam(defaultValue = "10") 
             @Min(value = 1, message = "Limit must be at least 1")
             @Max(value = 100, message = "Limit must not exceed 100")
-            int limit) {
-        var pageable = PageRequest.of(0, limit, Sort.by(Sort.Direction.DESC, "score"));
-        return observationRepository.findByStatus(Observation.Status.APPROVED, pageable)
-                .stream()
-                .map(ObservationDTO::from)
-                .toList();
+            int limit,
+            WebRequest request,
+            HttpServletResponse response) throws IOException {
+        if (request.checkNotModified(changeToken.etag())) {
+            return;
+        }
+        var payload = featuredPayloads.top(limit);
+        var gzip = payload.gzip() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        var body = gzip ? payload.gzip() : payload.json();
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Whether an {@code Accept-Encoding} value lists gzip without {@code q=0}.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (var coding : acceptEncoding.split(",")) {
+            var parts = coding.split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                for (int i = 1; i < parts.length; i++) {
+                    var param = parts[i].trim().replace(" ", "");
+                    if (param.matches("q=0(\\.0*)?")) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,214 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.dto.ObservationDTO;
+import com.example.cosmiccatalog.event.ObservationChangedEvent;
+import com.example.cosmiccatalog.event.ObservationsApprovedEvent;
+import com.example.cosmiccatalog.event.ObservationsImportedEvent;
+import com.example.cosmiccatalog.event.ObservationsRescoredEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory top-K of approved observations, ordered by score desc then id.
+ * <p>
+ * Loaded once at startup and then kept current from committed change events: approvals and
+ * other JPA writes arrive as {@link ObservationChangedEvent}s, bulk approvals as one
+ * {@link ObservationsApprovedEvent} per batch, JDBC rescoring as {@link ObservationsRescoredEvent}s. Each event moves only the affected entries, so
+ * {@link #top(int)} never has to go back to the database.
+ * <p>
+ * The index holds up to {@code capacity} entries, with headroom above {@link #MAX_LIMIT}.
+ * It is either complete (it holds every approved observation) or holds an exact prefix of
+ * the ranking; in the latter case nothing is admitted below its last entry, since unseen
+ * rows may rank there. It reloads only when that prefix falls below {@link #MAX_LIMIT}
+ * entries or an event leaves membership uncertain. Writers are serialized; readers get an
+ * immutable snapshot of the first {@link #MAX_LIMIT} entries.
+ */
+@Component
+public class FeaturedIndex implements ApplicationRunner {
+    private static final Logger logger = LoggerFactory.getLogger(FeaturedIndex.class);
+
+    /**
+     * Largest limit {@link #top(int)} can serve in full.
+     */
+    public static final int MAX_LIMIT = 100;
+
+    private static final Comparator<ObservationDTO> RANKING = Comparator
+            .comparingInt(ObservationDTO::score).reversed()
+            .thenComparing(ObservationDTO::id);
+
+    private final ObservationRepository observationRepository;
+    private final int capacity;
+    private final int refillBelow;
+
+    // Guarded by lock; not a synchronized monitor, since reloads run a query while holding it
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TreeSet<ObservationDTO> ranked = new TreeSet<>(RANKING);
+    private final Map<Long, ObservationDTO> byId = new HashMap<>();
+    private boolean complete;
+
+    private volatile List<ObservationDTO> snapshot = List.of();
+
+    public FeaturedIndex(ObservationRepository observationRepository,
+                         @Value("${app.featured.capacity:200}") int capacity) {
+        this.observationRepository = observationRepository;
+        this.capacity = Math.max(1, capacity);
+        this.refillBelow = Math.min(MAX_LIMIT, this.capacity);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reload();
+    }
+
+    /**
+     * Returns the highest-scoring approved observations.
+     *
+     * @param limit maximum number of results, at most {@link #MAX_LIMIT}
+     * @return observations sorted by score desc, then id
+     */
+    public List<ObservationDTO> top(int limit) {
+        var current = snapshot;
+        return current.subList(0, Math.min(Math.max(limit, 0), current.size()));
+    }
+
+    /**
+     * Returns the current snapshot: the first {@link #MAX_LIMIT} entries, immutable. A new list
+     * instance is published on every change, so identity tells whether anything moved.
+     */
+    List<ObservationDTO> snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Rebuilds the index from the database.
+     */
+    public void reload() {
+        lock.lock();
+        try {
+            var pageable = PageRequest.of(0, capacity,
+                    Sort.by(Sort.Direction.DESC, "score").and(Sort.by("id")));
+            var approved = observationRepository.findProjectedByStatus(Observation.Status.APPROVED, pageable);
+            ranked.clear();
+            byId.clear();
+            for (var observation : approved) {
+                ranked.add(observation);
+                byId.put(observation.id(), observation);
+            }
+            complete = approved.size() < capacity;
+            publish();
+        } catch (DataAccessException e) {
+            // Keep serving the previous snapshot; the next change event retries
+            complete = false;
+            logger.warn("Could not reload the featured index", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onObservationChanged(ObservationChangedEvent event) {
+        lock.lock();
+        try {
+            var observation = event.observation();
+            remove(observation.id());
+            if (event.change() != ObservationChangedEvent.Change.DELETED
+                    && observation.status() == Observation.Status.APPROVED) {
+                admit(observation);
+            }
+            refillOrPublish(false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onObservationsApproved(ObservationsApprovedEvent event) {
+        lock.lock();
+        try {
+            for (var observation : event.observations()) {
+                remove(observation.id());
+                admit(observation);
+            }
+            refillOrPublish(false);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onObservationsRescored(ObservationsRescoredEvent event) {
+        lock.lock();
+        try {
+            var uncertain = false;
+            for (var update : event.updates()) {
+                var held = remove(update.id());
+                if (held != null) {
+                    admit(held.withScore(update.newScore()));
+                } else if (!complete && !ranked.isEmpty()) {
+                    // An unseen row moving above the last entry may be an approved one
+                    uncertain |= update.newScore() >= ranked.last().score();
+                }
+            }
+            refillOrPublish(uncertain);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onObservationsImported(ObservationsImportedEvent event) {
+        if (event.approved() > 0) {
+            reload();
+        }
+    }
+
+    private ObservationDTO remove(Long id) {
+        var previous = byId.remove(id);
+        if (previous != null) {
+            ranked.remove(previous);
+        }
+        return previous;
+    }
+
+    /**
+     * Adds an approved observation if it belongs to the held prefix of the ranking.
+     */
+    private void admit(ObservationDTO observation) {
+        if (!complete && (ranked.isEmpty() || RANKING.compare(observation, ranked.last()) > 0)) {
+            return;
+        }
+        ranked.add(observation);
+        byId.put(observation.id(), observation);
+        if (ranked.size() > capacity) {
+            byId.remove(ranked.pollLast().id());
+            complete = false;
+        }
+    }
+
+    private void refillOrPublish(boolean uncertain) {
+        if (uncertain || (!complete && ranked.size() < refillBelow)) {
+            reload();
+        } else {
+            publish();
+        }
+    }
+
+    private void publish() {
+        snapshot = ranked.stream().limit(MAX_LIMIT).toList();
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.dto.ObservationDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoded {@code /api/featured} responses, one per limit, so a hit is written out as bytes
+ * without building or serializing DTOs.
+ * <p>
+ * Each payload remembers the {@link FeaturedIndex} snapshot it was encoded from and is only
+ * served while that snapshot is current; the first request after a change re-encodes its
+ * limit. Payloads of at least {@code app.featured.gzip-min-bytes} are also kept gzip-compressed
+ * for clients that accept it; smaller ones are not worth the header overhead.
+ */
+@Component
+public class FeaturedPayloads {
+
+    /**
+     * UTF-8 JSON of one limit, and its gzip form when it was worth compressing.
+     *
+     * @param json the JSON array
+     * @param gzip {@code json} gzip-compressed, or null
+     */
+    public record Payload(byte[] json, byte[] gzip) {
+    }
+
+    private record Entry(List<ObservationDTO> source, Payload payload) {
+    }
+
+    private final FeaturedIndex featuredIndex;
+    private final ObjectMapper objectMapper;
+    private final int gzipMinBytes;
+    private final AtomicReferenceArray<Entry> entries = new AtomicReferenceArray<>(FeaturedIndex.MAX_LIMIT + 1);
+    private final Counter hits;
+    private final Counter misses;
+
+    public FeaturedPayloads(FeaturedIndex featuredIndex, ObjectMapper objectMapper,
+                            @Value("${app.featured.gzip-min-bytes:1024}") int gzipMinBytes,
+                            MeterRegistry meterRegistry) {
+        this.featuredIndex = featuredIndex;
+        this.objectMapper = objectMapper;
+        this.gzipMinBytes = gzipMinBytes;
+        this.hits = Counter.builder("catalog.featured.payloads").tag("result", "hit")
+                .description("Featured responses by whether their encoded payload was cached")
+                .register(meterRegistry);
+        this.misses = Counter.builder("catalog.featured.payloads").tag("result", "miss")
+                .description("Featured responses by whether their encoded payload was cached")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the encoded top-{@code limit} observations.
+     *
+     * @param limit number of observations, 1 to {@link FeaturedIndex#MAX_LIMIT}
+     * @return the payload for the current index snapshot
+     */
+    public Payload top(int limit) {
+        var source = featuredIndex.snapshot();
+        var entry = entries.get(limit);
+        if (entry != null && entry.source() == source) {
+            hits.increment();
+            return entry.payload();
+        }
+        misses.increment();
+        // Concurrent misses encode the same snapshot twice at worst; either result is correct
+        var payload = encode(source.subList(0, Math.min(limit, source.size())));
+        entries.set(limit, new Entry(source, payload));
+        return payload;
+    }
+
+    private Payload encode(List<ObservationDTO> observations) {
+        try {
+            var json = objectMapper.writeValueAsBytes(observations);
+            return new Payload(json, json.length >= gzipMinBytes ? gzip(json) : null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize featured observations", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        var out = new ByteArrayOutputStream(bytes.length / 4);
+        try (var gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.dto.ObservationDTO;
+import com.example.cosmiccatalog.event.ObservationChangedEvent;
+import com.example.cosmiccatalog.event.ObservationsApprovedEvent;
+import com.example.cosmiccatalog.event.ObservationsImportedEvent;
+import com.example.cosmiccatalog.event.ObservationsRescoredEvent;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Typed access to the featured-results cache regions.
+ * <p>
+ * Callers go through one method per query shape, each backed by its own region in
+ * {@link CacheConfig} and keyed by its own key record. Cached lists are immutable DTOs,
+ * never managed entities. Committed changes evict only the entries they can affect:
+ * an entry is dropped when it contains the changed observation or when the new score
+ * could rank inside it.
+ * <p>
+ * A miss loads outside the cache and stores the result, then re-checks a change counter that
+ * every listener bumps before evicting. If a commit landed while the query ran, the stored list
+ * may predate it, so it is removed again; otherwise the commit's eviction runs after the store
+ * and sees it. Concurrent misses on one key each run the query.
+ */
+@Component
+public class FeaturedResultsCache {
+
+    /**
+     * Key of a top-N query in {@link CacheConfig#TOP_SCORED}.
+     */
+    public record TopScoredKey(int limit) {
+    }
+
+    private final CaffeineCache topScored;
+    private final AtomicLong changes = new AtomicLong();
+
+    public FeaturedResultsCache(CacheManager cacheManager) {
+        this.topScored = (CaffeineCache) cacheManager.getCache(CacheConfig.TOP_SCORED);
+    }
+
+    /**
+     * Returns the cached top-N observations of any status, loading them on a miss.
+     *
+     * @param limit number of observations
+     * @param loader query to run on a miss
+     * @return observations sorted by score desc
+     */
+    @SuppressWarnings("unchecked")
+    public List<ObservationDTO> topScored(int limit, Supplier<List<ObservationDTO>> loader) {
+        var key = new TopScoredKey(limit);
+        var cached = topScored.get(key);
+        if (cached != null) {
+            return (List<ObservationDTO>) cached.get();
+        }
+
+        var generation = changes.get();
+        var loaded = loader.get();
+        topScored.put(key, loaded);
+        if (changes.get() != generation) {
+            topScored.getNativeCache().asMap().remove(key, loaded);
+        }
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onObservationChanged(ObservationChangedEvent event) {
+        changes.incrementAndGet();
+        var observation = event.observation();
+        var deleted = event.change() == ObservationChangedEvent.Change.DELETED;
+        evictTopScored(entry -> contains(entry, observation.id()) || (!deleted && ranksIn(entry, observation.score())));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onObservationsApproved(ObservationsApprovedEvent event) {
+        changes.incrementAndGet();
+        evictTopScored(entry -> event.observations().stream()
+                .anyMatch(observation -> contains(entry, observation.id()) || ranksIn(entry, observation.score())));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onObservationsRescored(ObservationsRescoredEvent event) {
+        changes.incrementAndGet();
+        evictTopScored(entry -> event.updates().stream()
+                .anyMatch(update -> contains(entry, update.id()) || ranksIn(entry, update.newScore())));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void onObservationsImported(ObservationsImportedEvent event) {
+        // Inserted rows are not read back, so their scores are unknown here
+        if (event.inserted() > 0) {
+            changes.incrementAndGet();
+            topScored.clear();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void evictTopScored(Predicate<Entry> affected) {
+        topScored.getNativeCache().asMap().entrySet().removeIf(e ->
+                affected.test(new Entry((TopScoredKey) e.getKey(), (List<ObservationDTO>) e.getValue())));
+    }
+
+    private static boolean contains(Entry entry, Long id) {
+        for (var observation : entry.observations()) {
+            if (observation.id().equals(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether an observation with this score would appear in the entry if it were reloaded.
+     */
+    private static boolean ranksIn(Entry entry, int score) {
+        var observations = entry.observations();
+        return observations.size() < entry.key().limit()
+                || score >= observations.get(observations.size() - 1).score();
+    }
+
+    private record Entry(TopScoredKey key, List<ObservationDTO> observations) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.cosmiccatalog;
+
+import java.util.Arrays;
+
+/**
+ * Precompiled matcher for fixed-width filter codes such as {@code F200W}.
+ * <p>
+ * Patterns are compiled once into one ASCII character mask per position:
+ * a literal character matches itself, {@code #} matches any digit and {@code [...]}
+ * matches a character class with optional ranges (e.g. {@code [1-4]}, {@code [WM]}).
+ * {@link #matches(CharSequence)} reports whether the pattern occurs anywhere in the
+ * input. It never backtracks and allocates nothing, so it is safe on the scoring hot path.
+ */
+public final class FilterCodeMatcher {
+
+    private final String pattern;
+    private final long[] lowMasks;  // chars 0-63
+    private final long[] highMasks; // chars 64-127
+
+    private FilterCodeMatcher(String pattern, long[] lowMasks, long[] highMasks) {
+        this.pattern = pattern;
+        this.lowMasks = lowMasks;
+        this.highMasks = highMasks;
+    }
+
+    /**
+     * Compiles a filter code pattern.
+     *
+     * @param pattern pattern using literals, {@code #} and {@code [...]} classes
+     * @return compiled matcher
+     * @throws IllegalArgumentException if the pattern is empty or malformed
+     */
+    public static FilterCodeMatcher compile(String pattern) {
+        if (pattern == null || pattern.isEmpty()) {
+            throw new IllegalArgumentException("Filter pattern must not be empty");
+        }
+
+        var low = new long[pattern.length()];
+        var high = new long[pattern.length()];
+        var width = 0;
+        var i = 0;
+        while (i < pattern.length()) {
+            var c = pattern.charAt(i);
+            if (c == '#') {
+                addRange(low, high, width, '0', '9');
+                i++;
+            } else if (c == '[') {
+                var end = pattern.indexOf(']', i + 1);
+                if (end < 0 || end == i + 1) {
+                    throw new IllegalArgumentException("Malformed character class in filter pattern: " + pattern);
+                }
+                for (var j = i + 1; j < end; j++) {
+                    if (j + 2 < end && pattern.charAt(j + 1) == '-') {
+                        addRange(low, high, width, pattern.charAt(j), pattern.charAt(j + 2));
+                        j += 2;
+                    } else {
+                        addRange(low, high, width, pattern.charAt(j), pattern.charAt(j));
+                    }
+                }
+                i = end + 1;
+            } else {
+                addRange(low, high, width, c, c);
+                i++;
+            }
+            width++;
+        }
+
+        return new FilterCodeMatcher(pattern,
+                Arrays.copyOf(low, width), Arrays.copyOf(high, width));
+    }
+
+    /**
+     * Reports whether the pattern occurs anywhere in the input.
+     *
+     * @param input filter string, may be null
+     * @return true if some substring matches the pattern
+     */
+    public boolean matches(CharSequence input) {
+        if (input == null) {
+            return false;
+        }
+        var width = lowMasks.length;
+        var last = input.length() - width;
+        for (var start = 0; start <= last; start++) {
+            var pos = 0;
+            while (pos < width && accepts(pos, input.charAt(start + pos))) {
+                pos++;
+            }
+            if (pos == width) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public String pattern() {
+        return pattern;
+    }
+
+    private boolean accepts(int pos, char c) {
+        if (c < 64) {
+            return (lowMasks[pos] & (1L << c)) != 0;
+        }
+        if (c < 128) {
+            return (highMasks[pos] & (1L << (c - 64))) != 0;
+        }
+        return false;
+    }
+
+    private static void addRange(long[] low, long[] high, int pos, char from, char to) {
+        if (from > to || to >= 128) {
+            throw new IllegalArgumentException("Filter patterns support ASCII ranges only: " + from + "-" + to);
+        }
+        for (var c = from; c <= to; c++) {
+            if (c < 64) {
+                low[pos] |= 1L << c;
+            } else {
+                high[pos] |= 1L << (c - 64);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
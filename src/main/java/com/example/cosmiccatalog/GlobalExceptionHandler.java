@@ -2,20 +2,35 @@ package com.example.cosmiccatalog;
 
 import com.example.cosmiccatalog.dto.ErrorResponse;
 import com.example.cosmiccatalog.exception.EntityNotFoundException;
+import com.example.cosmiccatalog.exception.ImportNotResumableException;
+import com.example.cosmiccatalog.exception.InvalidApprovalBatchException;
+import com.example.cosmiccatalog.exception.InvalidCursorException;
+import com.example.cosmiccatalog.exception.InvalidImportSourceException;
+import com.example.cosmiccatalog.exception.InvalidScoringRulesException;
+import com.example.cosmiccatalog.exception.TooManySubscribersException;
 import com.example.cosmiccatalog.exception.VersionConflictException;
 import jakarta.validation.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.multipart.support.MissingServletRequestPartException;
 
 import java.io.IOException;
+import java.sql.SQLTransientConnectionException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
+    private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<ErrorResponse> handleConstraintViolationException(ConstraintViolationException ex) {
@@ -35,6 +50,89 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse("VERSION_CONFLICT", ex.getMessage()));
     }
 
+    /**
+     * A concurrent write bumped the row's version between our read and our flush: the same
+     * conflict as a stale {@code expectedVersion}, only detected by JPA instead of up front.
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(ObjectOptimisticLockingFailureException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse("VERSION_CONFLICT", "Observation was modified concurrently, reload and retry"));
+    }
+
+    @ExceptionHandler(ImportNotResumableException.class)
+    public ResponseEntity<ErrorResponse> handleImportNotResumableException(ImportNotResumableException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse("CONFLICT", ex.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidScoringRulesException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidScoringRulesException(InvalidScoringRulesException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse("VALIDATION_ERROR", ex.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidImportSourceException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidImportSourceException(InvalidImportSourceException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse("VALIDATION_ERROR", ex.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse("VALIDATION_ERROR", ex.getMessage()));
+    }
+
+    @ExceptionHandler(InvalidApprovalBatchException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidApprovalBatchException(InvalidApprovalBatchException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse("VALIDATION_ERROR", ex.getMessage()));
+    }
+
+    @ExceptionHandler(TooManySubscribersException.class)
+    public ResponseEntity<ErrorResponse> handleTooManySubscribersException(TooManySubscribersException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ErrorResponse("UNAVAILABLE", ex.getMessage()));
+    }
+
+    /**
+     * Import executor and its queue are full: back-pressure, so 503 with a hint when to retry.
+     */
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleTaskRejectedException(TaskRejectedException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(new ErrorResponse("UNAVAILABLE", "Import queue is full, retry later"));
+    }
+
+    /**
+     * No database connection within the pool's connection timeout (Hikari reports it as a
+     * {@link SQLTransientConnectionException}): the pool, not the request threads, bounds
+     * concurrent database work, so this is backpressure rather than a fault. Any other failure
+     * to begin a transaction is a fault and answered as one.
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ErrorResponse> handleCannotCreateTransactionException(CannotCreateTransactionException ex) {
+        if (!isPoolTimeout(ex)) {
+            return handleGenericException(ex);
+        }
+        // The message names the pool, its timeout and connection details: log it, do not return it
+        logger.warn("Database unavailable, answering 503", ex);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse("UNAVAILABLE", "Database busy, retry shortly"));
+    }
+
+    private static boolean isPoolTimeout(Throwable ex) {
+        for (var cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @ExceptionHandler(IOException.class)
     public ResponseEntity<ErrorResponse> handleIOException(IOException ex) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -43,7 +141,8 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler({MethodArgumentTypeMismatchException.class,
             MethodArgumentNotValidException.class,
-            MissingServletRequestParameterException.class})
+            MissingServletRequestParameterException.class,
+            MissingServletRequestPartException.class})
     public ResponseEntity<ErrorResponse> handleBadRequestExceptions(Exception ex) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(new ErrorResponse("BAD_REQUEST", ex.getMessage()));
@@ -2,6 +2,7 @@ package com.example.cosmiccatalog;
 
 import com.example.cosmiccatalog.dto.HealthInfo;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -19,11 +20,14 @@ public class HealthController {
 
     /**
      * Health check endpoint providing application status and metrics.
+     * Counts are maintained in memory and at most {@code app.health.reconcile-interval} stale
+     * unless {@code exact} is set.
      * 
+     * @param exact count rows in the database for this request
      * @return HealthInfo with version, counts, and last import time
      */
     @GetMapping("/health")
-    public HealthInfo getHealth() {
-        return healthService.getHealthInfo();
+    public HealthInfo getHealth(@RequestParam(defaultValue = "false") boolean exact) {
+        return healthService.getHealthInfo(exact);
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.example.cosmiccatalog.dto.HealthInfo;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 /**
@@ -13,48 +14,33 @@ import java.time.format.DateTimeFormatter;
 @Service
 public class HealthService {
 
-    private final ObservationRepository observationRepository;
-    private final TargetRepository targetRepository;
-    private final ImportBatchRepository importBatchRepository;
+    private final CatalogCounts catalogCounts;
     private final String applicationVersion;
 
-    public HealthService(ObservationRepository observationRepository,
-                        TargetRepository targetRepository,
-                        ImportBatchRepository importBatchRepository,
+    public HealthService(CatalogCounts catalogCounts,
                         @Value("${app.version:0.0.1-SNAPSHOT}") String applicationVersion) {
-        this.observationRepository = observationRepository;
-        this.targetRepository = targetRepository;
-        this.importBatchRepository = importBatchRepository;
+        this.catalogCounts = catalogCounts;
         this.applicationVersion = applicationVersion;
     }
 
     /**
      * Gathers comprehensive health information about the application.
+     * Served from {@link CatalogCounts} without touching the database unless {@code exact} is set.
      * 
+     * @param exact count rows and read the last import now instead of using the maintained values
      * @return HealthInfo containing version, entity counts, and last import timestamp
      */
-    public HealthInfo getHealthInfo() {
-        var observationCount = observationRepository.count();
-        var targetCount = targetRepository.count();
-        var lastImportTime = getLastImportTime();
+    public HealthInfo getHealthInfo(boolean exact) {
+        var counts = exact ? catalogCounts.reconcile() : catalogCounts.current();
         
         return new HealthInfo(
             applicationVersion,
-            new HealthInfo.Counts((int) observationCount, (int) targetCount),
-            lastImportTime
+            new HealthInfo.Counts(counts.observations(), counts.targets(), exact, format(counts.reconciledAt())),
+            format(counts.lastImport())
         );
     }
 
-    /**
-     * Retrieves the timestamp of the most recent completed import.
-     * 
-     * @return ISO formatted timestamp string, or null if no imports exist
-     */
-    private String getLastImportTime() {
-        return importBatchRepository.findTopByOrderByCompletedAtDesc()
-                .filter(batch -> batch.getCompletedAt() != null)
-                .map(batch -> batch.getCompletedAt()
-                        .format(DateTimeFormatter.ISO_DATE_TIME))
-                .orElse(null);
+    private static String format(LocalDateTime time) {
+        return time != null ? time.format(DateTimeFormatter.ISO_DATE_TIME) : null;
     }
-}
\ No newline at end of file
+}
@@ -1,7 +1,5 @@
 package com.example.cosmiccatalog;
 
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,29 +11,24 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 @Controller
 public class HomeController {
 
-    private final ObservationRepository observationRepository;
-    
     private final ObservationService observationService;
     
     private final ApprovalService approvalService;
 
-    public HomeController(ObservationRepository observationRepository, ObservationService observationService, ApprovalService approvalService) {
-        this.observationRepository = observationRepository;
+    public HomeController(ObservationService observationService, ApprovalService approvalService) {
         this.observationService = observationService;
         this.approvalService = approvalService;
     }
 
     @GetMapping("/")
     public String index(Model model) {
-        // Get all observations, sorted by ID
-        var observations = observationRepository.findAll(
-            PageRequest.of(0, 20, Sort.by("id").descending())
-        );
+        // Latest 20 observations, newest first
+        var observations = observationService.listRecent(20);
         
         // Get featured observations (top 3 by score)
         var featured = observationService.getFeaturedObservations(3);
         
-        model.addAttribute("observations", observations.getContent());
+        model.addAttribute("observations", observations);
         model.addAttribute("featured", featured);
         
         return "index"; // resolves to src/main/resources/templates/index.html
@@ -17,6 +17,12 @@ public class ImportBatch {
     private int totalRows;
     private int importedCount;
     private int duplicateCount;
+    // Nullable so ddl-auto=update can add the column to an existing table; null reads as 0
+    private Double rowsPerSecond;
+
+    // Leading rows known to be committed or skipped as duplicates; a resumed import starts here.
+    // Nullable like rowsPerSecond; batches from before the column existed resume from row 0
+    private Integer checkpointRow;
 
     @Enumerated(EnumType.STRING)
     private Status status;
@@ -25,6 +31,7 @@ public class ImportBatch {
     private String notes;
 
     public enum Status {
+        RUNNING,
         SUCCEEDED,
         FAILED
     }
@@ -87,6 +94,22 @@ public class ImportBatch {
         this.duplicateCount = duplicateCount;
     }
 
+    public double getRowsPerSecond() {
+        return rowsPerSecond != null ? rowsPerSecond : 0.0;
+    }
+
+    public void setRowsPerSecond(double rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    public int getCheckpointRow() {
+        return checkpointRow != null ? checkpointRow : 0;
+    }
+
+    public void setCheckpointRow(int checkpointRow) {
+        this.checkpointRow = checkpointRow;
+    }
+
     public Status getStatus() {
         return status;
     }
@@ -1,11 +1,21 @@
 package com.example.cosmiccatalog;
 
+import com.example.cosmiccatalog.dto.ImportProgress;
 import com.example.cosmiccatalog.dto.ImportSummary;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.constraints.Pattern;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 
@@ -14,6 +24,7 @@ import java.io.IOException;
  */
 @RestController
 @RequestMapping("/api/import")
+@Validated
 public class ImportController {
 
     private final ImportService importService;
@@ -22,6 +33,95 @@ public class ImportController {
         this.importService = importService;
     }
 
+    /**
+     * Starts a background import of a bundled data file.
+     *
+     * @param source classpath data file to import
+     * @return the new job's progress, with its id for polling
+     */
+    @Operation(summary = "Start an import job",
+               description = "Starts importing a bundled data file in the background and returns the job id immediately")
+    @PostMapping
+    public ResponseEntity<ImportProgress> startImport(
+            @RequestParam(defaultValue = "data/jwst_sample.json")
+            @Pattern(regexp = "data/[\\w.-]+\\.json", message = "must be a JSON file under data/") String source) {
+        var batch = importService.startImport(source);
+        return ResponseEntity.accepted().body(ImportProgress.from(batch));
+    }
+
+    /**
+     * Starts a background import of a file under the server's import directory.
+     *
+     * @param path file path relative to {@code app.import.base-dir}
+     * @return the new job's progress, with its id for polling
+     */
+    @Operation(summary = "Start an import job from a server-side file",
+               description = "Imports a JSON array, NDJSON (.ndjson/.jsonl) or CSV (.csv) file from the import directory, read through memory-mapped windows")
+    @PostMapping("/file")
+    public ResponseEntity<ImportProgress> startFileImport(@RequestParam String path) {
+        var batch = importService.startFileImport(path);
+        return ResponseEntity.accepted().body(ImportProgress.from(batch));
+    }
+
+    /**
+     * Starts a background import of an uploaded file.
+     *
+     * @param file uploaded JSON array, NDJSON or CSV file
+     * @return the new job's progress, with its id for polling
+     * @throws IOException if the upload cannot be spooled
+     */
+    @Operation(summary = "Start an import job from an uploaded file",
+               description = "Multipart upload of a JSON array, NDJSON or CSV file; the format follows the part's content type or file extension. The part is spooled to disk and imported in the background; the job id is returned immediately")
+    @PostMapping(value = "/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportProgress> importUpload(@RequestPart("file") MultipartFile file) throws IOException {
+        var batch = importService.startUpload(file);
+        return ResponseEntity.accepted().body(ImportProgress.from(batch));
+    }
+
+    /**
+     * Imports a raw request body as it arrives. Unlike a multipart upload the body is not spooled,
+     * so the import is bound to the request and the response is sent when it finishes.
+     *
+     * @param request request whose body is NDJSON, CSV or a JSON array
+     * @return final progress of the import
+     * @throws IOException if the body cannot be read or parsed
+     */
+    @Operation(summary = "Import a streamed request body",
+               description = "Reads an application/x-ndjson, text/csv or application/json body straight from the connection without buffering it")
+    @PostMapping(value = "/upload",
+                 consumes = {NdjsonObservationFormat.MEDIA_TYPE, CsvObservationFormat.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    public ImportProgress importBody(HttpServletRequest request) throws IOException {
+        var source = ImportSource.upload(null, request.getContentType(), request::getInputStream);
+        return ImportProgress.from(importService.importStream(source));
+    }
+
+    /**
+     * Resumes a failed or interrupted import from its last checkpoint.
+     *
+     * @param id import job id
+     * @return the job's progress, now running again
+     */
+    @Operation(summary = "Resume an import job",
+               description = "Restarts a failed or interrupted import from its checkpoint row instead of from the beginning")
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<ImportProgress> resumeImport(@PathVariable Long id) {
+        var batch = importService.resumeImport(id);
+        return ResponseEntity.accepted().body(ImportProgress.from(batch));
+    }
+
+    /**
+     * Returns the progress of an import job.
+     *
+     * @param id import job id
+     * @return current progress
+     */
+    @Operation(summary = "Get import job progress",
+               description = "Rows parsed, imported and skipped so far, throughput, per-stage pipeline counters while running, and the final status or error")
+    @GetMapping("/{id}")
+    public ImportProgress getImport(@PathVariable Long id) {
+        return ImportProgress.from(importService.getImportBatch(id), importService.getStageStats(id));
+    }
+
     /**
      * Imports sample JWST observations from the default data file.
      * 
@@ -0,0 +1,38 @@
+package com.example.cosmiccatalog;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Dedicated executor for background import jobs, kept apart from the HTTP worker threads.
+ * <p>
+ * With {@code spring.threads.virtual.enabled} the jobs run on virtual threads, like requests do.
+ * The pool still bounds concurrent jobs and queues the rest, so a full queue is rejected as before.
+ * <p>
+ * Declaring an executor bean would make Boot back off its {@code applicationTaskExecutor};
+ * {@code spring.task.execution.mode=force} keeps it, so only imports run on this pool and callers
+ * must ask for it by name.
+ */
+@Configuration
+public class ImportExecutorConfig {
+
+    @Bean
+    public AsyncTaskExecutor importExecutor(@Value("${app.import.max-concurrent-jobs:2}") int maxConcurrentJobs,
+                                            @Value("${app.import.queue-capacity:50}") int queueCapacity,
+                                            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentJobs);
+        executor.setMaxPoolSize(maxConcurrentJobs);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("import-");
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name("import-", 1).factory());
+        }
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,519 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.dto.ImportStageStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Multi-stage import engine: parse, score, dedup, write.
+ * <p>
+ * One parser thread streams chunks from the file, scoring workers score them in parallel,
+ * dedup runs in partitions that each own a {@link DuplicateIndex}, and writer threads regroup
+ * accepted rows into full batches and insert them. Stages pass chunks through bounded queues,
+ * so a slow stage blocks the ones before it instead of letting the file pile up in memory.
+ * <p>
+ * Rows are routed to dedup partitions by their dedup key rather than by sky region: duplicates
+ * always share a key, so every candidate pair meets in the same partition and no index is
+ * shared between threads. Sky-region partitions would need cross-partition probes at the edges.
+ * <p>
+ * Every parsed chunk gets a sequence number, and a ledger tracks when all of its rows are either
+ * committed by a writer or dropped as duplicates. The checkpoint is the number of leading rows
+ * whose chunks are all resolved; even though writers finish out of order, every row before it is
+ * durable, so a restarted import can skip that many rows. Rows after it may also be committed,
+ * which is harmless on resume because dedup skips them.
+ * <p>
+ * With {@code virtualThreads} set, the parse, dedup and write stages, which wait on the file and
+ * the database, run on virtual threads; scoring is CPU-bound and stays on platform threads.
+ * Locks shared by stage threads are {@link ReentrantLock}s rather than monitors, so a virtual
+ * thread waiting on one unmounts instead of pinning its carrier.
+ * <p>
+ * An instance runs a single import; {@link #stats()} can be read from any thread while it runs.
+ * Stage work is also published as meters that add up across imports: {@code catalog.import.stage}
+ * times each chunk a stage handles and {@code catalog.import.rows} counts its rows, both tagged by
+ * {@code stage}; {@code catalog.import.duplicates} counts rows dropped by dedup.
+ */
+public class ImportPipeline {
+    private static final Logger logger = LoggerFactory.getLogger(ImportPipeline.class);
+
+    // End-of-stream marker, compared by identity
+    private static final Chunk END = new Chunk(-1, List.of());
+
+    /**
+     * Stage sizing. {@code chunkSize} is both the parse chunk and the write batch size;
+     * {@code queueCapacity} is counted in chunks per queue. {@code virtualThreads} runs the
+     * I/O-bound stages on virtual threads.
+     */
+    public record Settings(int chunkSize, int scoringThreads, int dedupPartitions, int writerThreads, int queueCapacity,
+                           boolean virtualThreads) {
+
+        /**
+         * @throws IllegalArgumentException if a size is below 1, so bad configuration fails at startup
+         *         rather than in the middle of an import
+         */
+        public Settings {
+            requirePositive("chunk-size", chunkSize);
+            requirePositive("pipeline.scoring-threads", scoringThreads);
+            requirePositive("pipeline.dedup-partitions", dedupPartitions);
+            requirePositive("pipeline.writer-threads", writerThreads);
+            requirePositive("pipeline.queue-capacity", queueCapacity);
+        }
+
+        /**
+         * Sizing with every stage on platform threads.
+         */
+        public Settings(int chunkSize, int scoringThreads, int dedupPartitions, int writerThreads, int queueCapacity) {
+            this(chunkSize, scoringThreads, dedupPartitions, writerThreads, queueCapacity, false);
+        }
+
+        private static void requirePositive(String name, int value) {
+            if (value < 1) {
+                throw new IllegalArgumentException("app.import." + name + " must be at least 1, was " + value);
+            }
+        }
+    }
+
+    /**
+     * Row counts so far, or of a finished run. {@code duplicates} and {@code imported} cover the
+     * first {@code checkpoint} rows only, so the three stay consistent with what is committed.
+     */
+    public record Progress(long parsed, long duplicates, long imported, long checkpoint) {
+    }
+
+    /**
+     * A slice of one parsed chunk on its way through the stages.
+     */
+    private record Chunk(long seq, List<Observation> rows) {
+    }
+
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onProgress(Progress progress);
+    }
+
+    private final Settings settings;
+    private final ScoringService scoringService;
+    private final Supplier<DuplicateIndex> indexFactory;
+    private final ToIntFunction<List<Observation>> writer;
+
+    private final BlockingQueue<Chunk> scoreQueue;
+    private final List<BlockingQueue<Chunk>> dedupQueues = new ArrayList<>();
+    private final BlockingQueue<Chunk> writeQueue;
+
+    private final Stage parseStage;
+    private final Stage scoreStage;
+    private final Stage dedupStage;
+    private final Stage writeStage;
+
+    private final Counter duplicateRows;
+    private final Ledger ledger = new Ledger();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final ReentrantLock progressLock = new ReentrantLock();
+    private final List<Thread> threads = new CopyOnWriteArrayList<>();
+    private volatile long startNanos;
+
+    /**
+     * @param settings stage sizing
+     * @param scoringService scorer used by the scoring workers
+     * @param indexFactory creates the index owned by one dedup partition
+     * @param writer inserts one batch of scored, unique rows and returns the number written
+     */
+    public ImportPipeline(Settings settings,
+                          ScoringService scoringService,
+                          Supplier<DuplicateIndex> indexFactory,
+                          ToIntFunction<List<Observation>> writer) {
+        this(settings, scoringService, indexFactory, writer, new SimpleMeterRegistry());
+    }
+
+    /**
+     * @param settings stage sizing
+     * @param scoringService scorer used by the scoring workers
+     * @param indexFactory creates the index owned by one dedup partition
+     * @param writer inserts one batch of scored, unique rows and returns the number written
+     * @param meterRegistry registry for the stage meters
+     */
+    public ImportPipeline(Settings settings,
+                          ScoringService scoringService,
+                          Supplier<DuplicateIndex> indexFactory,
+                          ToIntFunction<List<Observation>> writer,
+                          MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.scoringService = scoringService;
+        this.indexFactory = indexFactory;
+        this.writer = writer;
+
+        this.scoreQueue = new ArrayBlockingQueue<>(settings.queueCapacity());
+        for (var i = 0; i < settings.dedupPartitions(); i++) {
+            dedupQueues.add(new ArrayBlockingQueue<>(settings.queueCapacity()));
+        }
+        this.writeQueue = new ArrayBlockingQueue<>(settings.queueCapacity());
+
+        this.parseStage = new Stage("parse", 1, () -> 0, 0, meterRegistry);
+        this.scoreStage = new Stage("score", settings.scoringThreads(), scoreQueue::size, settings.queueCapacity(),
+                meterRegistry);
+        this.dedupStage = new Stage("dedup", settings.dedupPartitions(),
+                () -> dedupQueues.stream().mapToInt(BlockingQueue::size).sum(),
+                settings.queueCapacity() * settings.dedupPartitions(), meterRegistry);
+        this.writeStage = new Stage("write", settings.writerThreads(), writeQueue::size, settings.queueCapacity(),
+                meterRegistry);
+        this.duplicateRows = Counter.builder("catalog.import.duplicates")
+                .description("Imported rows dropped as near-duplicates")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs the import to completion on the pipeline's own threads.
+     *
+     * @param reader source of observations; read only by the parser thread
+     * @param skipRows number of leading rows to read past, e.g. the checkpoint of an earlier run
+     * @param listener called from a writer thread after batches are written
+     * @return final row counts, not including skipped rows
+     * @throws IOException if the source cannot be read
+     * @throws InterruptedException if the calling thread is interrupted; the pipeline is stopped
+     */
+    public Progress run(ObservationReader reader, long skipRows, ProgressListener listener)
+            throws IOException, InterruptedException {
+        startNanos = System.nanoTime();
+
+        start(parseStage, () -> parse(reader, skipRows));
+        for (var i = 0; i < settings.scoringThreads(); i++) {
+            start(scoreStage, this::score);
+        }
+        for (var queue : dedupQueues) {
+            start(dedupStage, () -> dedup(queue));
+        }
+        for (var i = 0; i < settings.writerThreads(); i++) {
+            start(writeStage, () -> write(listener));
+        }
+        if (failure.get() != null) {
+            stopAll(); // a stage failed before every thread was started
+        }
+
+        try {
+            for (var thread : threads) {
+                thread.join();
+            }
+        } catch (InterruptedException e) {
+            stopAll();
+            throw e;
+        }
+
+        var error = failure.get();
+        if (error instanceof IOException ioException) {
+            throw ioException;
+        }
+        if (error instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (error instanceof Error fatal) {
+            throw fatal;
+        }
+        if (error != null) {
+            throw new IllegalStateException("Import pipeline failed", error);
+        }
+        return progress();
+    }
+
+    /**
+     * Current per-stage counters, in pipeline order.
+     */
+    public List<ImportStageStats> stats() {
+        var elapsedNanos = startNanos == 0 ? 0 : System.nanoTime() - startNanos;
+        return List.of(parseStage.snapshot(elapsedNanos), scoreStage.snapshot(elapsedNanos),
+                dedupStage.snapshot(elapsedNanos), writeStage.snapshot(elapsedNanos));
+    }
+
+    private Progress progress() {
+        return ledger.progress(parseStage.rows.sum());
+    }
+
+    private void parse(ObservationReader reader, long skipRows) throws IOException, InterruptedException {
+        // Row positions only, no byte offsets: the readers buffer ahead, so rows are re-read and dropped
+        var remaining = skipRows;
+        while (remaining > 0) {
+            var skipped = reader.nextChunk((int) Math.min(settings.chunkSize(), remaining));
+            if (skipped.isEmpty()) {
+                break;
+            }
+            remaining -= skipped.size();
+        }
+
+        for (var seq = 0L; ; seq++) {
+            var started = System.nanoTime();
+            var rows = reader.nextChunk(settings.chunkSize());
+            parseStage.record(started, rows.size());
+            if (rows.isEmpty()) {
+                break;
+            }
+            ledger.open(seq, rows.size());
+            scoreQueue.put(new Chunk(seq, rows));
+        }
+        scoreQueue.put(END);
+    }
+
+    private void score() throws InterruptedException {
+        var partitions = dedupQueues.size();
+        while (true) {
+            var chunk = scoreQueue.take();
+            if (chunk == END) {
+                scoreQueue.put(END); // let the other scoring workers see it
+                if (scoreStage.finishWorker()) {
+                    for (var queue : dedupQueues) {
+                        queue.put(END);
+                    }
+                }
+                return;
+            }
+
+            var started = System.nanoTime();
+            var rows = chunk.rows();
+            scoringService.scoreBatch(rows);
+            var slices = new ArrayList<List<Observation>>(partitions);
+            for (var i = 0; i < partitions; i++) {
+                slices.add(new ArrayList<>(rows.size() / partitions + 1));
+            }
+            for (var observation : rows) {
+                slices.get(Math.floorMod(DuplicateIndex.Key.of(observation).hashCode(), partitions)).add(observation);
+            }
+            scoreStage.record(started, rows.size());
+
+            for (var i = 0; i < partitions; i++) {
+                if (!slices.get(i).isEmpty()) {
+                    dedupQueues.get(i).put(new Chunk(chunk.seq(), slices.get(i)));
+                }
+            }
+        }
+    }
+
+    private void dedup(BlockingQueue<Chunk> queue) throws InterruptedException {
+        var index = indexFactory.get();
+        while (true) {
+            var chunk = queue.take();
+            if (chunk == END) {
+                if (dedupStage.finishWorker()) {
+                    writeQueue.put(END);
+                }
+                return;
+            }
+
+            var started = System.nanoTime();
+            var accepted = new ArrayList<Observation>(chunk.rows().size());
+            for (var observation : chunk.rows()) {
+                if (!index.isDuplicate(observation)) {
+                    index.add(observation);
+                    accepted.add(observation);
+                }
+            }
+            dedupStage.record(started, chunk.rows().size());
+
+            var duplicates = chunk.rows().size() - accepted.size();
+            if (duplicates > 0) {
+                duplicateRows.increment(duplicates);
+                ledger.resolve(chunk.seq(), duplicates, 0);
+            }
+            if (!accepted.isEmpty()) {
+                writeQueue.put(new Chunk(chunk.seq(), accepted));
+            }
+        }
+    }
+
+    private void write(ProgressListener listener) throws InterruptedException {
+        var batch = new ArrayList<Observation>(settings.chunkSize());
+        var parts = new ArrayList<Chunk>();
+        while (true) {
+            var chunk = writeQueue.take();
+            if (chunk == END) {
+                writeQueue.put(END); // let the other writers see it
+                flush(batch, parts, listener);
+                writeStage.finishWorker();
+                return;
+            }
+
+            batch.addAll(chunk.rows());
+            parts.add(chunk);
+            if (batch.size() >= settings.chunkSize()) {
+                flush(batch, parts, listener);
+                batch = new ArrayList<>(settings.chunkSize());
+                parts = new ArrayList<>();
+            }
+        }
+    }
+
+    private void flush(List<Observation> batch, List<Chunk> parts, ProgressListener listener) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        var started = System.nanoTime();
+        var written = writer.applyAsInt(batch);
+        writeStage.record(started, written);
+
+        // The batch is committed; its rows now count towards the checkpoint
+        for (var part : parts) {
+            ledger.resolve(part.seq(), 0, part.rows().size());
+        }
+
+        // Progress is advisory: skip the report if another writer is already saving one
+        if (progressLock.tryLock()) {
+            try {
+                listener.onProgress(progress());
+            } finally {
+                progressLock.unlock();
+            }
+        }
+    }
+
+    private void start(Stage stage, Work work) {
+        Thread.Builder builder = settings.virtualThreads() && stage != scoreStage
+                ? Thread.ofVirtual()
+                : Thread.ofPlatform().daemon(true);
+        var thread = builder
+                .name("import-" + stage.name + "-" + stage.started.getAndIncrement())
+                .unstarted(() -> {
+                    try {
+                        work.run();
+                    } catch (Throwable e) {
+                        if (failure.compareAndSet(null, e)) {
+                            logger.debug("Import pipeline stage {} failed, stopping", stage.name, e);
+                            stopAll();
+                        }
+                    }
+                });
+        threads.add(thread);
+        thread.start();
+    }
+
+    private void stopAll() {
+        for (var thread : threads) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Tracks unresolved rows per parsed chunk and advances the checkpoint over the leading
+     * chunks that are fully resolved. Only touched briefly, never across I/O.
+     */
+    private static final class Ledger {
+        // Guarded by lock; contended by dedup and writer threads, which may be virtual
+        private final ReentrantLock lock = new ReentrantLock();
+        // seq -> {rows, unresolved, duplicates, imported}
+        private final Map<Long, long[]> open = new HashMap<>();
+        private long nextSeq;
+        private long checkpoint;
+        private long duplicates;
+        private long imported;
+
+        private void open(long seq, int rows) {
+            lock.lock();
+            try {
+                open.put(seq, new long[] {rows, rows, 0, 0});
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void resolve(long seq, int duplicateRows, int importedRows) {
+            lock.lock();
+            try {
+                var entry = open.get(seq);
+                entry[1] -= duplicateRows + importedRows;
+                entry[2] += duplicateRows;
+                entry[3] += importedRows;
+
+                for (var next = open.get(nextSeq); next != null && next[1] == 0; next = open.get(nextSeq)) {
+                    checkpoint += next[0];
+                    duplicates += next[2];
+                    imported += next[3];
+                    open.remove(nextSeq++);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private Progress progress(long parsed) {
+            lock.lock();
+            try {
+                return new Progress(parsed, duplicates, imported, checkpoint);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Work {
+        void run() throws Exception;
+    }
+
+    private static final class Stage {
+        private final String name;
+        private final int threads;
+        private final IntSupplier queueDepth;
+        private final int queueCapacity;
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder busyNanos = new LongAdder();
+        private final AtomicInteger started = new AtomicInteger();
+        private final AtomicInteger running;
+        private final Timer chunkTimer;
+        private final Counter rowCounter;
+
+        private Stage(String name, int threads, IntSupplier queueDepth, int queueCapacity, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.threads = threads;
+            this.queueDepth = queueDepth;
+            this.queueCapacity = queueCapacity;
+            this.running = new AtomicInteger(threads);
+            this.chunkTimer = Timer.builder("catalog.import.stage")
+                    .description("Time an import stage spends on one chunk")
+                    .tag("stage", name)
+                    .register(meterRegistry);
+            this.rowCounter = Counter.builder("catalog.import.rows")
+                    .description("Rows handled by an import stage")
+                    .tag("stage", name)
+                    .register(meterRegistry);
+        }
+
+        private void record(long startedNanos, int count) {
+            var busy = System.nanoTime() - startedNanos;
+            busyNanos.add(busy);
+            rows.add(count);
+            chunkTimer.record(busy, TimeUnit.NANOSECONDS);
+            rowCounter.increment(count);
+        }
+
+        /**
+         * @return true for the last worker of the stage to finish
+         */
+        private boolean finishWorker() {
+            return running.decrementAndGet() == 0;
+        }
+
+        private ImportStageStats snapshot(long elapsedNanos) {
+            var count = rows.sum();
+            var rowsPerSecond = elapsedNanos > 0 ? count * 1_000_000_000.0 / elapsedNanos : 0.0;
+            var utilization = elapsedNanos > 0 ? Math.min(1.0, busyNanos.sum() / ((double) elapsedNanos * threads)) : 0.0;
+            return new ImportStageStats(name, threads, count, rowsPerSecond, utilization,
+                    queueDepth.getAsInt(), queueCapacity);
+        }
+    }
+}
@@ -1,38 +1,87 @@
 package com.example.cosmiccatalog;
 
+import com.example.cosmiccatalog.dto.ImportProgress;
+import com.example.cosmiccatalog.dto.ImportStageStats;
 import com.example.cosmiccatalog.dto.ImportSummary;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.cosmiccatalog.event.ImportProgressedEvent;
+import com.example.cosmiccatalog.exception.EntityNotFoundException;
+import com.example.cosmiccatalog.exception.ImportNotResumableException;
+import com.example.cosmiccatalog.exception.InvalidImportSourceException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Service for importing observations from JSON files.
+ * Service for importing observations from bundled files, server-side files and uploads.
+ * Sources are streamed through an {@link ImportPipeline} in bounded chunks, so heap use does not
+ * grow with file size. Each batch is written as one JDBC batch and committed on its own, and
+ * the progress of the run is saved on its {@link ImportBatch} as batches are written.
  */
 @Service
 public class ImportService {
     private static final Logger logger = LoggerFactory.getLogger(ImportService.class);
+
+    private static final int MAX_NOTES_LENGTH = 1024;
     
     private final ImportBatchRepository importBatchRepository;
     private final DeDupService deDupService;
     private final ObservationService observationService;
-    private final ObjectMapper objectMapper;
+    private final ObservationFormats observationFormats;
+    private final ScoringService scoringService;
+    private final AsyncTaskExecutor importExecutor;
+    private final ImportPipeline.Settings pipelineSettings;
+    private final Path baseDir;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<Long, ImportPipeline> activePipelines = new ConcurrentHashMap<>();
+    private final Set<Long> activeImports = ConcurrentHashMap.newKeySet();
 
     public ImportService(ImportBatchRepository importBatchRepository,
                         DeDupService deDupService,
                         ObservationService observationService,
-                        ObjectMapper objectMapper) {
+                        ObservationFormats observationFormats,
+                        ScoringService scoringService,
+                        @Qualifier("importExecutor") AsyncTaskExecutor importExecutor,
+                        @Value("${app.import.chunk-size:500}") int chunkSize,
+                        @Value("${app.import.pipeline.scoring-threads:0}") int scoringThreads,
+                        @Value("${app.import.pipeline.dedup-partitions:4}") int dedupPartitions,
+                        @Value("${app.import.pipeline.writer-threads:2}") int writerThreads,
+                        @Value("${app.import.pipeline.queue-capacity:8}") int queueCapacity,
+                        @Value("${app.import.base-dir:data}") String baseDir,
+                        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                        MeterRegistry meterRegistry,
+                        ApplicationEventPublisher eventPublisher) {
         this.importBatchRepository = importBatchRepository;
         this.deDupService = deDupService;
         this.observationService = observationService;
-        this.objectMapper = objectMapper;
+        this.observationFormats = observationFormats;
+        this.scoringService = scoringService;
+        this.importExecutor = importExecutor;
+        this.pipelineSettings = new ImportPipeline.Settings(chunkSize,
+                scoringThreads > 0 ? scoringThreads : Runtime.getRuntime().availableProcessors(),
+                dedupPartitions, writerThreads, queueCapacity, virtualThreads);
+        this.baseDir = Path.of(baseDir);
+        this.meterRegistry = meterRegistry;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -41,7 +90,6 @@ public class ImportService {
      * @return import summary with statistics
      * @throws IOException if file cannot be read
      */
-    @Transactional
     public ImportSummary importSampleData() throws IOException {
         return importFromFile("data/jwst_sample.json");
     }
@@ -52,82 +100,344 @@ public class ImportService {
      * @return import summary with statistics
      * @throws IOException if file cannot be read
      */
-    @Transactional
     public ImportSummary importRealisticData() throws IOException {
         return importFromFile("data/realistic_jwst.json");
     }
 
     /**
-     * Imports observations from a specified file.
+     * Imports observations from a specified file, blocking until the import is done.
      * 
      * @param filename the file to import from
      * @return import summary with statistics
      * @throws IOException if file cannot be read
      */
-    @Transactional
     public ImportSummary importFromFile(String filename) throws IOException {
-        logger.info("Starting import from file: {}", filename);
-        
-        // Create import batch record
+        return toSummary(importStream(ImportSource.classpath(filename)));
+    }
+
+    /**
+     * Imports observations from a source in the calling thread, blocking until the import is done.
+     * Used for request-bound streams such as uploads, which are consumed as they arrive.
+     *
+     * @param source the source to import from
+     * @return the finished import batch
+     * @throws IOException if the source cannot be read or parsed
+     */
+    public ImportBatch importStream(ImportSource source) throws IOException {
+        var importBatch = createBatch(source.name());
+        runImport(importBatch, source);
+        return importBatch;
+    }
+
+    /**
+     * Starts an import of a bundled classpath file on the import executor and returns immediately.
+     *
+     * @param filename the classpath file to import from
+     * @return the RUNNING import batch, whose id identifies the job
+     * @throws TaskRejectedException if the import queue is full
+     */
+    public ImportBatch startImport(String filename) {
+        return startImport(ImportSource.classpath(filename));
+    }
+
+    /**
+     * Starts an import of a file under the import directory ({@code app.import.base-dir}).
+     * The file is read through memory-mapped windows, so its size is not limited by the heap.
+     *
+     * @param path file path relative to the import directory
+     * @return the RUNNING import batch, whose id identifies the job
+     * @throws InvalidImportSourceException if the path leaves the import directory or is not a readable file
+     * @throws TaskRejectedException if the import queue is full
+     */
+    public ImportBatch startFileImport(String path) {
+        return startImport(ImportSource.file(resolveImportFile(path)));
+    }
+
+    /**
+     * Starts an import on the import executor and returns immediately.
+     * Progress is written to the returned batch's row as the job runs.
+     *
+     * @param source the source to import from; opened on the executor thread
+     * @return the RUNNING import batch, whose id identifies the job
+     * @throws TaskRejectedException if the import queue is full; no batch is kept
+     */
+    public ImportBatch startImport(ImportSource source) {
+        var importBatch = createBatch(source.name());
+        return submit(importBatch, source, () -> importBatchRepository.delete(importBatch), () -> { });
+    }
+
+    /**
+     * Starts an import of a multipart upload on the import executor and returns immediately.
+     * The container deletes request parts when the request ends, so the part is first moved to a
+     * temporary file of our own, read through memory-mapped windows and deleted when the job ends.
+     *
+     * @param file uploaded part
+     * @return the RUNNING import batch, whose id identifies the job
+     * @throws IOException if the part cannot be moved to the temporary file
+     * @throws TaskRejectedException if the import queue is full; neither the batch nor the file is kept
+     */
+    public ImportBatch startUpload(MultipartFile file) throws IOException {
+        var spooled = Files.createTempFile("import-upload-", ".part");
+        try {
+            file.transferTo(spooled.toFile());
+        } catch (IOException | RuntimeException e) {
+            deleteSpooled(spooled);
+            throw e;
+        }
+
+        var source = ImportSource.upload(file.getOriginalFilename(), file.getContentType(),
+                () -> new MappedFileInputStream(spooled));
+        var importBatch = createBatch(source.name());
+        return submit(importBatch, source, () -> {
+            deleteSpooled(spooled);
+            importBatchRepository.delete(importBatch);
+        }, () -> deleteSpooled(spooled));
+    }
+
+    /**
+     * Resumes a failed or interrupted import from its checkpoint on the import executor.
+     * Rows before {@link ImportBatch#getCheckpointRow()} are read past without processing;
+     * rows after it that were already committed are skipped again by dedup.
+     *
+     * @param id import batch id
+     * @return the RUNNING import batch
+     * @throws EntityNotFoundException if no such batch exists
+     * @throws ImportNotResumableException if the import succeeded, is still running, or was an upload
+     * @throws TaskRejectedException if the import queue is full; the batch is left as it was
+     */
+    public ImportBatch resumeImport(Long id) {
+        var importBatch = getImportBatch(id);
+        if (importBatch.getStatus() == ImportBatch.Status.SUCCEEDED) {
+            throw new ImportNotResumableException(id, "it has already succeeded");
+        }
+        var source = resumableSource(importBatch);
+        if (!activeImports.add(id)) {
+            throw new ImportNotResumableException(id, "it is still running");
+        }
+
+        logger.info("Resuming import {} from row {}", id, importBatch.getCheckpointRow());
+        var previousStatus = importBatch.getStatus();
+        var previousTotalRows = importBatch.getTotalRows();
+        var previousCompletedAt = importBatch.getCompletedAt();
+        var previousNotes = importBatch.getNotes();
+        importBatch.setTotalRows(importBatch.getCheckpointRow());
+        importBatch.setStatus(ImportBatch.Status.RUNNING);
+        importBatch.setCompletedAt(null);
+        importBatch.setNotes(null);
+        var resumed = importBatchRepository.save(importBatch);
+        return submit(resumed, source, () -> {
+            resumed.setStatus(previousStatus);
+            resumed.setTotalRows(previousTotalRows);
+            resumed.setCompletedAt(previousCompletedAt);
+            resumed.setNotes(previousNotes);
+            importBatchRepository.save(resumed);
+        }, () -> { });
+    }
+
+    /**
+     * Returns the import batch for a job id.
+     *
+     * @param id import batch id
+     * @return the import batch with its latest progress
+     * @throws EntityNotFoundException if no such batch exists
+     */
+    public ImportBatch getImportBatch(Long id) {
+        return importBatchRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("ImportBatch", id));
+    }
+
+    /**
+     * Returns per-stage pipeline counters for a running import.
+     *
+     * @param id import batch id
+     * @return stage counters, or an empty list if the import is not running on this instance
+     */
+    public List<ImportStageStats> getStageStats(Long id) {
+        var pipeline = activePipelines.get(id);
+        return pipeline == null ? List.of() : pipeline.stats();
+    }
+
+    /**
+     * Hands an import to the executor. A rejected job never started, so {@code onRejected}
+     * undoes the batch changes made for it instead of recording a failure; {@code onFinished}
+     * runs after a job that did start, however it ended.
+     */
+    private ImportBatch submit(ImportBatch importBatch, ImportSource source, Runnable onRejected, Runnable onFinished) {
+        try {
+            importExecutor.execute(() -> {
+                try {
+                    // Work on a fresh copy; the caller keeps reading the returned instance
+                    runImport(getImportBatch(importBatch.getId()), source);
+                } catch (Exception e) {
+                    // Already recorded on the batch by runImport
+                    logger.debug("Background import {} failed", importBatch.getId(), e);
+                } finally {
+                    onFinished.run();
+                }
+            });
+        } catch (TaskRejectedException e) {
+            activeImports.remove(importBatch.getId());
+            onRejected.run();
+            throw e;
+        }
+        return importBatch;
+    }
+
+    private static void deleteSpooled(Path spooled) {
+        try {
+            Files.deleteIfExists(spooled);
+        } catch (IOException e) {
+            logger.warn("Could not delete spooled upload {}", spooled, e);
+        }
+    }
+
+    private ImportSource resumableSource(ImportBatch importBatch) {
+        var name = importBatch.getSource();
+        if (name.startsWith(ImportSource.UPLOAD_PREFIX)) {
+            throw new ImportNotResumableException(importBatch.getId(), "uploaded data is not kept on the server");
+        }
+        if (name.startsWith(ImportSource.FILE_PREFIX)) {
+            return ImportSource.file(resolveImportFile(name.substring(ImportSource.FILE_PREFIX.length())));
+        }
+        return ImportSource.classpath(name);
+    }
+
+    private Path resolveImportFile(String path) {
+        try {
+            var base = baseDir.toRealPath();
+            var file = base.resolve(path).normalize();
+            if (!file.startsWith(base) || !Files.isRegularFile(file) || !Files.isReadable(file)) {
+                throw new InvalidImportSourceException(path + " is not a readable file in the import directory");
+            }
+            // Resolve symlinks only after the lexical check, then check again
+            var real = file.toRealPath();
+            if (!real.startsWith(base)) {
+                throw new InvalidImportSourceException(path + " is not a readable file in the import directory");
+            }
+            return real;
+        } catch (IOException | InvalidPathException e) {
+            throw new InvalidImportSourceException(path + " is not a readable file in the import directory");
+        }
+    }
+
+    private ImportBatch createBatch(String source) {
         var importBatch = new ImportBatch();
-        importBatch.setSource(filename);
+        importBatch.setSource(source);
         importBatch.setStartedAt(LocalDateTime.now());
-        
-        // Read observations from file
-        var resource = new ClassPathResource(filename);
-        var observations = readObservationsFromFile(resource);
-        importBatch.setTotalRows(observations.size());
-        
-        // Process observations
-        var imported = new ArrayList<Observation>();
-        var duplicates = 0;
-        
-        for (var observation : observations) {
-            if (deDupService.findDuplicate(observation).isPresent()) {
-                duplicates++;
-                logger.debug("Skipping duplicate observation: {}", observation.getProgramId());
-            } else {
-                // Save with scoring
-                var saved = observationService.saveWithScore(observation);
-                imported.add(saved);
-            }
+        importBatch.setStatus(ImportBatch.Status.RUNNING);
+        importBatch = importBatchRepository.save(importBatch);
+        activeImports.add(importBatch.getId());
+        return importBatch;
+    }
+
+    private void runImport(ImportBatch importBatch, ImportSource source) throws IOException {
+        logger.info("Starting import {} from: {}", importBatch.getId(), source.name());
+        var startNanos = System.nanoTime();
+
+        // Counts committed by earlier runs of this batch; all zero for a fresh import
+        var baseline = new ImportPipeline.Progress(importBatch.getCheckpointRow(),
+                importBatch.getDuplicateCount(), importBatch.getImportedCount(), importBatch.getCheckpointRow());
+
+        var pipeline = new ImportPipeline(pipelineSettings, scoringService,
+                deDupService::newIndex, observationService::insertAll, meterRegistry);
+        activePipelines.put(importBatch.getId(), pipeline);
+
+        // Stream observations from the source through the parse/score/dedup/write stages
+        try (var reader = openReader(source)) {
+            var result = pipeline.run(reader, baseline.checkpoint(),
+                    progress -> recordProgress(importBatch, baseline, progress, startNanos));
+            recordProgress(importBatch, baseline, result, startNanos);
+        } catch (IOException | RuntimeException e) {
+            markFailed(importBatch, e);
+            recordImport("failed", startNanos);
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            markFailed(importBatch, e);
+            recordImport("failed", startNanos);
+            throw new IOException("Import interrupted", e);
+        } finally {
+            activePipelines.remove(importBatch.getId());
+            activeImports.remove(importBatch.getId());
+            logger.info("Import {} stages: {}", importBatch.getId(), pipeline.stats());
         }
         
         // Update import batch statistics
-        importBatch.setDuplicateCount(duplicates);
-        importBatch.setImportedCount(imported.size());
         importBatch.setCompletedAt(LocalDateTime.now());
         importBatch.setStatus(ImportBatch.Status.SUCCEEDED);
+        importBatch.setNotes(String.format("Imported %d records, skipped %d duplicates",
+                importBatch.getImportedCount(), importBatch.getDuplicateCount()));
         importBatchRepository.save(importBatch);
+        publishProgress(importBatch);
+        recordImport("succeeded", startNanos);
         
-        logger.info("Import completed: {} records imported, {} duplicates skipped", 
-                   imported.size(), duplicates);
-        
+        logger.info("Import {} completed: {} records imported, {} duplicates skipped",
+                   importBatch.getId(), importBatch.getImportedCount(), importBatch.getDuplicateCount());
+    }
+
+    private void recordImport(String outcome, long startNanos) {
+        Timer.builder("catalog.import")
+                .description("Import runs, from start to final status")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private ObservationReader openReader(ImportSource source) throws IOException {
+        var format = observationFormats.select(source.contentType(), source.name());
+        logger.debug("Reading {} as {}", source.name(), format.name());
+        var input = source.open();
+        try {
+            return format.open(input);
+        } catch (IOException | RuntimeException e) {
+            input.close();
+            throw e;
+        }
+    }
+
+    private void recordProgress(ImportBatch importBatch, ImportPipeline.Progress baseline,
+                                ImportPipeline.Progress progress, long startNanos) {
+        // Duplicate and imported counts are consistent with the checkpoint, saved together with it
+        importBatch.setTotalRows((int) (baseline.parsed() + progress.parsed()));
+        importBatch.setDuplicateCount((int) (baseline.duplicates() + progress.duplicates()));
+        importBatch.setImportedCount((int) (baseline.imported() + progress.imported()));
+        importBatch.setCheckpointRow((int) (baseline.checkpoint() + progress.checkpoint()));
+        importBatch.setRowsPerSecond(rowsPerSecond(progress.parsed(), startNanos));
+        importBatchRepository.save(importBatch);
+        publishProgress(importBatch);
+    }
+
+    private void markFailed(ImportBatch importBatch, Exception e) {
+        logger.error("Import {} failed after {} rows", importBatch.getId(), importBatch.getTotalRows(), e);
+
+        var notes = "Failed after " + importBatch.getTotalRows() + " rows (checkpoint at row "
+                + importBatch.getCheckpointRow() + "): " + e.getMessage();
+        importBatch.setNotes(notes.length() > MAX_NOTES_LENGTH ? notes.substring(0, MAX_NOTES_LENGTH) : notes);
+        importBatch.setCompletedAt(LocalDateTime.now());
+        importBatch.setStatus(ImportBatch.Status.FAILED);
+        importBatchRepository.save(importBatch);
+        publishProgress(importBatch);
+    }
+
+    private void publishProgress(ImportBatch importBatch) {
+        eventPublisher.publishEvent(new ImportProgressedEvent(ImportProgress.from(importBatch)));
+    }
+
+    private static double rowsPerSecond(long rows, long startNanos) {
+        var elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        return elapsedSeconds > 0 ? rows / elapsedSeconds : 0.0;
+    }
+
+    private static ImportSummary toSummary(ImportBatch importBatch) {
         return new ImportSummary(
-            filename,
+            importBatch.getSource(),
             importBatch.getStartedAt(),
             importBatch.getCompletedAt(),
-            observations.size(),
-            duplicates,
-            imported.size(),
+            importBatch.getTotalRows(),
+            importBatch.getDuplicateCount(),
+            importBatch.getImportedCount(),
             ImportSummary.ImportStatus.SUCCEEDED,
-            String.format("Imported %d records, skipped %d duplicates", imported.size(), duplicates)
+            importBatch.getNotes()
         );
     }
-
-    private List<Observation> readObservationsFromFile(ClassPathResource resource) throws IOException {
-        try (var inputStream = resource.getInputStream()) {
-            var jsonNode = objectMapper.readTree(inputStream);
-            var observations = new ArrayList<Observation>();
-            
-            if (jsonNode.isArray()) {
-                for (var node : jsonNode) {
-                    var observation = objectMapper.treeToValue(node, Observation.class);
-                    observations.add(observation);
-                }
-            }
-            
-            return observations;
-        }
-    }
-}
\ No newline at end of file
+}
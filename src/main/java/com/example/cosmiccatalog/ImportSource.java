@@ -0,0 +1,46 @@
+package com.example.cosmiccatalog;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.InputStreamSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * Where an import reads its observations from: a bundled classpath file, a file on the
+ * server, or a streamed upload. The input is opened once, by the import that consumes it.
+ *
+ * @param name label recorded as the import batch source; its extension can pick the {@link ObservationFormat}
+ * @param contentType declared media type, or null when only the name is known
+ * @param input opens the stream
+ */
+public record ImportSource(String name, String contentType, InputStreamSource input) {
+
+    static final String FILE_PREFIX = "file:";
+    static final String UPLOAD_PREFIX = "upload:";
+
+    public static ImportSource classpath(String path) {
+        return new ImportSource(path, null, new ClassPathResource(path));
+    }
+
+    /**
+     * A server-side file, read through memory-mapped windows.
+     */
+    public static ImportSource file(Path path) {
+        return new ImportSource(FILE_PREFIX + path, null, () -> new MappedFileInputStream(path));
+    }
+
+    /**
+     * A request-bound upload; it can be read once and is not kept after the import.
+     *
+     * @param filename client file name, or null for a raw request body
+     */
+    public static ImportSource upload(String filename, String contentType, InputStreamSource input) {
+        return new ImportSource(UPLOAD_PREFIX + (filename != null ? filename : "body"), contentType, input);
+    }
+
+    public InputStream open() throws IOException {
+        return input.getInputStream();
+    }
+}
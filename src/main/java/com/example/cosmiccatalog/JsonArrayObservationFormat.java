@@ -0,0 +1,44 @@
+package com.example.cosmiccatalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+
+/**
+ * A top-level JSON array of observation objects; the default format.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class JsonArrayObservationFormat implements ObservationFormat {
+
+    private final ObjectMapper objectMapper;
+
+    public JsonArrayObservationFormat(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String name() {
+        return "json";
+    }
+
+    @Override
+    public Set<String> mediaTypes() {
+        return Set.of("application/json");
+    }
+
+    @Override
+    public Set<String> extensions() {
+        return Set.of("json");
+    }
+
+    @Override
+    public ObservationReader open(InputStream input) throws IOException {
+        return new ObservationJsonStreamReader(objectMapper, input);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.cosmiccatalog;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Reads a file through read-only memory-mapped windows of its {@link FileChannel}.
+ * One window is mapped at a time, so files beyond 2 GB work and file contents are paged in
+ * by the OS instead of being copied through heap buffers sized to the file.
+ */
+final class MappedFileInputStream extends InputStream {
+
+    static final long DEFAULT_WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private final long windowSize;
+    private long windowStart;
+    private MappedByteBuffer window;
+
+    MappedFileInputStream(Path path) throws IOException {
+        this(path, DEFAULT_WINDOW_SIZE);
+    }
+
+    MappedFileInputStream(Path path, long windowSize) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.windowSize = windowSize;
+        this.window = map(0);
+    }
+
+    @Override
+    public int read() throws IOException {
+        return nextWindowIfNeeded() ? window.get() & 0xff : -1;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+        if (length == 0) {
+            return 0;
+        }
+        if (!nextWindowIfNeeded()) {
+            return -1;
+        }
+        var count = Math.min(length, window.remaining());
+        window.get(buffer, offset, count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return window.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private boolean nextWindowIfNeeded() throws IOException {
+        if (window.hasRemaining()) {
+            return true;
+        }
+        var next = windowStart + window.capacity();
+        if (next >= size) {
+            return false;
+        }
+        windowStart = next;
+        window = map(next);
+        return true;
+    }
+
+    private MappedByteBuffer map(long position) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(windowSize, size - position));
+    }
+}
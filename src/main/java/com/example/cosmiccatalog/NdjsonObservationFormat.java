@@ -0,0 +1,43 @@
+package com.example.cosmiccatalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+
+/**
+ * Newline-delimited JSON: one observation object per line.
+ */
+@Component
+public class NdjsonObservationFormat implements ObservationFormat {
+
+    public static final String MEDIA_TYPE = "application/x-ndjson";
+
+    private final ObjectMapper objectMapper;
+
+    public NdjsonObservationFormat(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String name() {
+        return "ndjson";
+    }
+
+    @Override
+    public Set<String> mediaTypes() {
+        return Set.of(MEDIA_TYPE, "application/jsonl", "application/x-jsonlines");
+    }
+
+    @Override
+    public Set<String> extensions() {
+        return Set.of("ndjson", "jsonl");
+    }
+
+    @Override
+    public ObservationReader open(InputStream input) throws IOException {
+        return new ObservationNdjsonStreamReader(objectMapper, input);
+    }
+}
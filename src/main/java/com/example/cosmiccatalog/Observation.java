@@ -5,12 +5,14 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@EntityListeners(ObservationChangeListener.class)
 @Table(name = "observations", 
        indexes = {
            @Index(name = "idx_status_score", columnList = "status, score DESC"),
            @Index(name = "idx_program_id", columnList = "programId"),
            @Index(name = "idx_target_name", columnList = "targetName"),
-           @Index(name = "idx_obs_date", columnList = "obsDate DESC")
+           @Index(name = "idx_obs_date", columnList = "obsDate DESC"),
+           @Index(name = "idx_sky_cell", columnList = "skyCell")
        })
 public class Observation {
 
@@ -30,6 +32,11 @@ public class Observation {
     private String imageUrl;
     private int score;
 
+    /**
+     * Precomputed {@link SkyCells} id of (ra, dec), kept in sync on every write.
+     */
+    private Long skyCell;
+
     @Enumerated(EnumType.STRING)
     private Status status = Status.PENDING;
 
@@ -42,6 +49,12 @@ public class Observation {
         REJECTED
     }
 
+    @PrePersist
+    @PreUpdate
+    void updateSkyCell() {
+        this.skyCell = SkyCells.cellOf(ra, dec);
+    }
+
     // Getters and setters
     public Long getId() {
         return id;
@@ -139,6 +152,10 @@ public class Observation {
         this.score = score;
     }
 
+    public Long getSkyCell() {
+        return skyCell;
+    }
+
     public Status getStatus() {
         return status;
     }
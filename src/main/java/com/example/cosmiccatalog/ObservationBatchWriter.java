@@ -0,0 +1,169 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.event.ObservationsImportedEvent;
+import com.example.cosmiccatalog.event.ObservationsRescoredEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk write path for observations.
+ * Observation ids are IDENTITY-generated, which prevents Hibernate from batching inserts,
+ * so bulk writes go straight through a JDBC batch instead of the persistence context.
+ * Since that skips the JPA entity callbacks, each batch publishes its own change event
+ * or leaves that to a caller that knows the rows as written.
+ */
+@Repository
+public class ObservationBatchWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO observations (telescope, program_id, target_name, ra, dec, obs_date, instrument,
+                                      filters, exposure_sec, image_url, score, status, sky_cell, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+            """;
+
+    // Guarded by the old score so a concurrent change to the row is not overwritten
+    private static final String UPDATE_SCORE_SQL = "UPDATE observations SET score = ? WHERE id = ? AND score = ?";
+
+    // Versioned like a JPA update, so a row changed since it was read is left alone
+    private static final String APPROVE_SQL = """
+            UPDATE observations SET status = 'APPROVED', score = ?, version = version + 1
+            WHERE id = ? AND version = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ObservationBatchWriter(JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Inserts all observations as a single JDBC batch.
+     * Joins the caller's transaction; the ids of the inserted rows are not read back.
+     *
+     * @param observations observations to insert, already scored
+     * @return number of rows written
+     */
+    public int insertAll(List<Observation> observations) {
+        if (observations.isEmpty()) {
+            return 0;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, observations, observations.size(), this::bind);
+
+        var approved = 0;
+        for (var observation : observations) {
+            if (observation.getStatus() == Observation.Status.APPROVED) {
+                approved++;
+            }
+        }
+        eventPublisher.publishEvent(new ObservationsImportedEvent(observations.size(), approved));
+        return observations.size();
+    }
+
+    /**
+     * Writes changed scores as a single JDBC batch in one transaction.
+     * The optimistic-lock version is left alone: the score is derived data, and bumping the
+     * version would make every client holding an expectedVersion fail its next approval.
+     *
+     * @param updates score changes to apply
+     * @return number of rows actually updated
+     */
+    @Transactional
+    public int updateScores(List<ScoreUpdate> updates) {
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        var results = jdbcTemplate.batchUpdate(UPDATE_SCORE_SQL, updates, updates.size(), (ps, update) -> {
+            ps.setInt(1, update.newScore());
+            ps.setLong(2, update.id());
+            ps.setInt(3, update.oldScore());
+        });
+
+        // One batch of updates.size() statements, so counts line up with updates
+        var applied = new ArrayList<ScoreUpdate>(updates.size());
+        var i = 0;
+        for (var batch : results) {
+            for (var count : batch) {
+                // SUCCESS_NO_INFO (-2) means the driver did not report a count
+                if (count == Statement.SUCCESS_NO_INFO || count > 0) {
+                    applied.add(updates.get(i));
+                }
+                i++;
+            }
+        }
+        if (!applied.isEmpty()) {
+            eventPublisher.publishEvent(new ObservationsRescoredEvent(applied));
+        }
+        return applied.size();
+    }
+
+    /**
+     * Approves observations as a single versioned JDBC batch. Joins the caller's transaction.
+     * Publishes no event: the caller knows the rows as written and publishes once for the batch.
+     *
+     * @param approvals rows to approve, each guarded by the version it was read at
+     * @return for each approval, whether its row was updated
+     */
+    public boolean[] approveAll(List<Approval> approvals) {
+        var applied = new boolean[approvals.size()];
+        if (approvals.isEmpty()) {
+            return applied;
+        }
+        var results = jdbcTemplate.batchUpdate(APPROVE_SQL, approvals, approvals.size(), (ps, approval) -> {
+            ps.setInt(1, approval.newScore());
+            ps.setLong(2, approval.id());
+            ps.setInt(3, approval.version());
+        });
+
+        var i = 0;
+        for (var batch : results) {
+            for (var count : batch) {
+                applied[i++] = count == Statement.SUCCESS_NO_INFO || count > 0;
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * An approval of one observation, with its new score and the version it must still have.
+     */
+    public record Approval(long id, int version, int newScore) {
+    }
+
+    /**
+     * A recomputed score for one observation.
+     */
+    public record ScoreUpdate(long id, int oldScore, int newScore) {
+    }
+
+    private void bind(PreparedStatement ps, Observation observation) throws SQLException {
+        ps.setString(1, observation.getTelescope());
+        ps.setString(2, observation.getProgramId());
+        ps.setString(3, observation.getTargetName());
+        ps.setDouble(4, observation.getRa());
+        ps.setDouble(5, observation.getDec());
+        if (observation.getObsDate() != null) {
+            ps.setObject(6, observation.getObsDate());
+        } else {
+            ps.setNull(6, Types.TIMESTAMP);
+        }
+        ps.setString(7, observation.getInstrument());
+        ps.setString(8, observation.getFilters());
+        ps.setInt(9, observation.getExposureSec());
+        ps.setString(10, observation.getImageUrl());
+        ps.setInt(11, observation.getScore());
+        var status = observation.getStatus() != null ? observation.getStatus() : Observation.Status.PENDING;
+        ps.setString(12, status.name());
+        ps.setLong(13, SkyCells.cellOf(observation.getRa(), observation.getDec()));
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.dto.ObservationDTO;
+import com.example.cosmiccatalog.event.ObservationChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that turns observation writes into {@link ObservationChangedEvent}s.
+ * Hibernate obtains it from the Spring context, so every JPA write path publishes,
+ * including repository calls made directly by tests and controllers.
+ */
+@Component
+public class ObservationChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ObservationChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    void created(Observation observation) {
+        eventPublisher.publishEvent(new ObservationChangedEvent(
+                ObservationDTO.from(observation), ObservationChangedEvent.Change.CREATED));
+    }
+
+    @PostUpdate
+    void updated(Observation observation) {
+        eventPublisher.publishEvent(new ObservationChangedEvent(
+                ObservationDTO.from(observation), ObservationChangedEvent.Change.UPDATED));
+    }
+
+    @PostRemove
+    void deleted(Observation observation) {
+        eventPublisher.publishEvent(new ObservationChangedEvent(
+                ObservationDTO.from(observation), ObservationChangedEvent.Change.DELETED));
+    }
+}
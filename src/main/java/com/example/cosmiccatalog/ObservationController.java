@@ -1,37 +1,125 @@
 package com.example.cosmiccatalog;
 
+import com.example.cosmiccatalog.dto.ApprovalBatchResult;
+import com.example.cosmiccatalog.dto.ApprovalRequest;
+import com.example.cosmiccatalog.dto.CursorPage;
 import com.example.cosmiccatalog.dto.ObservationDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 /**
  * REST endpoints for managing observations.
  * Exposes listing and approval with optimistic locking via expectedVersion.
+ * Listings carry the {@link CatalogChangeToken} as ETag and answer a matching
+ * {@code If-None-Match} with 304 before querying.
  */
 @RestController
 @RequestMapping("/api/observations")
+@Validated
 public class ObservationController {
 
-    private final ObservationRepository observationRepository;
+    private final ObservationService observationService;
     private final ApprovalService approvalService;
+    private final CatalogChangeToken changeToken;
 
-    public ObservationController(ObservationRepository observationRepository,
-                                 ApprovalService approvalService) {
-        this.observationRepository = observationRepository;
+    public ObservationController(ObservationService observationService,
+                                 ApprovalService approvalService,
+                                 CatalogChangeToken changeToken) {
+        this.observationService = observationService;
         this.approvalService = approvalService;
+        this.changeToken = changeToken;
     }
 
     /**
-     * Returns a paginated list of observations as DTOs.
+     * Returns a paginated list of observations as DTOs, projected without loading entities.
      *
      * @param pageable Spring Data pagination and sorting
-     * @return page of ObservationDTO
+     * @param request used for the {@code If-None-Match} check
+     * @return page of ObservationDTO, or nothing with 304 Not Modified
      */
     @GetMapping
-    public Page<ObservationDTO> getObservations(Pageable pageable) {
-        var observations = observationRepository.findAll(pageable);
-        return observations.map(ObservationDTO::from);
+    public Page<ObservationDTO> getObservations(Pageable pageable, WebRequest request) {
+        if (request.checkNotModified(changeToken.etag())) {
+            return null;
+        }
+        return observationService.list(pageable);
+    }
+
+    /**
+     * Returns one page of observations by cursor instead of page number.
+     * Selected whenever {@code after} is present; pass an empty value for the first page.
+     *
+     * @param after {@code next} cursor of the previous page ({@code id}, or {@code score,id} with a status)
+     * @param status list only this status, by score desc
+     * @param size page size (1-100, default 20)
+     * @param request used for the {@code If-None-Match} check
+     * @return page of ObservationDTO with the next cursor, or nothing with 304 Not Modified
+     */
+    @Operation(summary = "List observations by cursor",
+               description = "Keyset pagination: without status, rows in id order; with status, rows by score desc. "
+                       + "Pass the returned next value as after; no total count is computed")
+    @GetMapping(params = "after")
+    public CursorPage<ObservationDTO> getObservationsAfter(
+            @Parameter(description = "Cursor from the previous page; empty for the first page")
+            @RequestParam(defaultValue = "") String after,
+            @Parameter(description = "Only list this status, ordered by score desc")
+            @RequestParam(required = false) Observation.Status status,
+            @Parameter(description = "Page size (1-100)")
+            @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "size must be at least 1")
+            @Max(value = 100, message = "size must not exceed 100")
+            int size,
+            WebRequest request) {
+        if (request.checkNotModified(changeToken.etag())) {
+            return null;
+        }
+        return observationService.listAfter(after, status, size);
+    }
+
+    /**
+     * Returns observations within a cone around a sky position, nearest first.
+     *
+     * @param ra cone centre right ascension in degrees (0-360)
+     * @param dec cone centre declination in degrees (-90 to 90)
+     * @param radiusArcsec cone radius in arcseconds (up to 1 degree)
+     * @param request used for the {@code If-None-Match} check
+     * @return list of ObservationDTO, or nothing with 304 Not Modified
+     */
+    @Operation(summary = "Cone search",
+               description = "Returns observations within radiusArcsec of (ra, dec), nearest first")
+    @GetMapping("/cone")
+    public List<ObservationDTO> coneSearch(
+            @Parameter(description = "Right ascension in degrees")
+            @RequestParam
+            @DecimalMin(value = "0.0", message = "ra must be at least 0")
+            @DecimalMax(value = "360.0", message = "ra must not exceed 360")
+            double ra,
+            @Parameter(description = "Declination in degrees")
+            @RequestParam
+            @DecimalMin(value = "-90.0", message = "dec must be at least -90")
+            @DecimalMax(value = "90.0", message = "dec must not exceed 90")
+            double dec,
+            @Parameter(description = "Search radius in arcseconds (max 3600)")
+            @RequestParam
+            @DecimalMin(value = "0.0", inclusive = false, message = "radiusArcsec must be positive")
+            @DecimalMax(value = "3600.0", message = "radiusArcsec must not exceed 3600")
+            double radiusArcsec,
+            WebRequest request) {
+        if (request.checkNotModified(changeToken.etag())) {
+            return null;
+        }
+        return observationService.findWithinCone(ra, dec, radiusArcsec);
     }
 
     /**
@@ -49,4 +137,20 @@ public class ObservationController {
         var approved = approvalService.approve(id, expectedVersion);
         return ObservationDTO.from(approved);
     }
+
+    /**
+     * Approves many observations in one request.
+     * Each item is checked against its expected version; conflicts and missing ids are reported
+     * per item instead of failing the batch.
+     *
+     * @param requests {@code {id, expectedVersion}} items, each id at most once
+     * @return per-item outcomes in request order, with totals
+     */
+    @Operation(summary = "Approve observations in bulk",
+               description = "One read and one versioned batch update for the whole list (at most app.approval.max-batch-size items). "
+                       + "Items whose version does not match are reported as CONFLICT, unknown ids as NOT_FOUND; the rest are approved")
+    @PostMapping("/approve")
+    public ApprovalBatchResult approveObservations(@RequestBody List<ApprovalRequest> requests) {
+        return approvalService.approveAll(requests);
+    }
 }
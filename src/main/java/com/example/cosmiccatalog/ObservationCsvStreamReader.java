@@ -0,0 +1,125 @@
+package com.example.cosmiccatalog;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams observations out of CSV with a header row, one record per line.
+ * <p>
+ * Header names are matched to observation fields by {@link ObservationFields} (so
+ * {@code program_id} and {@code programId} both work) and unknown columns are ignored.
+ * Fields may be quoted with {@code "}, with {@code ""} for a literal quote; a quoted field
+ * may span lines. Empty fields leave the observation field unset.
+ */
+public class ObservationCsvStreamReader implements ObservationReader {
+
+    private final BufferedReader reader;
+    private final ObservationFields.Field[] columns;
+    private final List<String> values = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    private long lineNumber;
+
+    public ObservationCsvStreamReader(InputStream inputStream) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), 64 * 1024);
+
+        if (!readRecord()) {
+            this.columns = new ObservationFields.Field[0];
+        } else {
+            // Strip a UTF-8 byte order mark from the first header name
+            if (!values.get(0).isEmpty() && values.get(0).charAt(0) == '\uFEFF') {
+                values.set(0, values.get(0).substring(1));
+            }
+            this.columns = values.stream().map(name -> ObservationFields.field(name.trim()))
+                    .toArray(ObservationFields.Field[]::new);
+        }
+    }
+
+    @Override
+    public List<Observation> nextChunk(int maxSize) throws IOException {
+        var chunk = new ArrayList<Observation>(Math.min(maxSize, 1024));
+
+        while (chunk.size() < maxSize && columns.length > 0 && readRecord()) {
+            if (values.size() == 1 && values.get(0).isEmpty()) {
+                continue; // blank line
+            }
+            var observation = new Observation();
+            try {
+                for (var i = 0; i < Math.min(columns.length, values.size()); i++) {
+                    ObservationFields.set(observation, columns[i], values.get(i));
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Invalid CSV record ending at line " + lineNumber + ": " + e.getMessage(), e);
+            }
+            chunk.add(observation);
+        }
+
+        return chunk;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Reads the next record into {@link #values}.
+     *
+     * @return false at end of input
+     */
+    private boolean readRecord() throws IOException {
+        var line = reader.readLine();
+        if (line == null) {
+            return false;
+        }
+        lineNumber++;
+        values.clear();
+        field.setLength(0);
+
+        var quoted = false;
+        var i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                // Quoted field continues on the next line
+                line = reader.readLine();
+                if (line == null) {
+                    throw new IOException("Unterminated quoted CSV field at line " + lineNumber);
+                }
+                lineNumber++;
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+
+            var c = line.charAt(i++);
+            if (quoted) {
+                if (c == '"') {
+                    if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        values.add(field.toString());
+        return true;
+    }
+}
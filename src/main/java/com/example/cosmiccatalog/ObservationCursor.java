@@ -0,0 +1,54 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.dto.ObservationDTO;
+import com.example.cosmiccatalog.exception.InvalidCursorException;
+
+/**
+ * Position in a keyset listing: the sort key of the last row on the previous page.
+ * Encoded as {@code id} when listing in id order, or as {@code score,id} when listing
+ * one status by score.
+ *
+ * @param score score of the last row, or null in id order
+ * @param id id of the last row
+ */
+public record ObservationCursor(Integer score, long id) {
+
+    /**
+     * Parses a cursor; an empty value means "from the first row".
+     *
+     * @param value cursor as returned in {@code next}
+     * @param byScore whether the listing is ordered by score
+     * @return cursor, or null for the first page
+     * @throws InvalidCursorException if the value does not match the ordering
+     */
+    public static ObservationCursor parse(String value, boolean byScore) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        var expected = byScore ? "score,id" : "id";
+        var comma = value.indexOf(',');
+        if (byScore != (comma >= 0)) {
+            throw new InvalidCursorException(value, expected);
+        }
+        try {
+            return byScore
+                    ? new ObservationCursor(Integer.parseInt(value.substring(0, comma).trim()),
+                            Long.parseLong(value.substring(comma + 1).trim()))
+                    : new ObservationCursor(null, Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(value, expected);
+        }
+    }
+
+    /**
+     * Cursor pointing just after an observation.
+     */
+    public static ObservationCursor after(ObservationDTO observation, boolean byScore) {
+        return new ObservationCursor(byScore ? observation.score() : null, observation.id());
+    }
+
+    @Override
+    public String toString() {
+        return score != null ? score + "," + id : Long.toString(id);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.cosmiccatalog;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Binds import fields straight onto {@link Observation}, for readers that parse records themselves
+ * instead of going through data binding or a tree model.
+ * <p>
+ * Field names match ignoring case and underscores, so {@code programId} and {@code program_id}
+ * are the same field. Unknown fields are ignored; score and sky cell are derived and never read.
+ */
+final class ObservationFields {
+
+    enum Field {
+        TELESCOPE, PROGRAMID, TARGETNAME, RA, DEC, OBSDATE, INSTRUMENT, FILTERS, EXPOSURESEC, IMAGEURL, STATUS, UNKNOWN
+    }
+
+    // Field names as they appear in the input; bounded so odd inputs cannot grow it without limit
+    private static final int MAX_CACHED_NAMES = 256;
+    private static final Map<String, Field> FIELDS_BY_NAME = new ConcurrentHashMap<>();
+
+    private ObservationFields() {
+    }
+
+    static Field field(String name) {
+        var field = FIELDS_BY_NAME.get(name);
+        if (field == null) {
+            field = lookup(name);
+            if (FIELDS_BY_NAME.size() < MAX_CACHED_NAMES) {
+                FIELDS_BY_NAME.put(name, field);
+            }
+        }
+        return field;
+    }
+
+    /**
+     * Sets one field from its text form. Blank values leave the field unset.
+     *
+     * @throws IllegalArgumentException if the value is not valid for the field
+     */
+    static void set(Observation observation, Field field, String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        switch (field) {
+            case TELESCOPE -> observation.setTelescope(value);
+            case PROGRAMID -> observation.setProgramId(value);
+            case TARGETNAME -> observation.setTargetName(value);
+            case RA -> observation.setRa(Double.parseDouble(value.trim()));
+            case DEC -> observation.setDec(Double.parseDouble(value.trim()));
+            case OBSDATE -> observation.setObsDate(parseDate(value.trim()));
+            case INSTRUMENT -> observation.setInstrument(value);
+            case FILTERS -> observation.setFilters(value);
+            case EXPOSURESEC -> observation.setExposureSec(Integer.parseInt(value.trim()));
+            case IMAGEURL -> observation.setImageUrl(value);
+            case STATUS -> observation.setStatus(Observation.Status.valueOf(value.trim().toUpperCase(Locale.ROOT)));
+            case UNKNOWN -> { }
+        }
+    }
+
+    /**
+     * Reads one JSON object, positioned on its {@code START_OBJECT}, into a new observation.
+     * Numbers are read as numbers; nested objects and arrays are skipped.
+     */
+    static Observation read(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an observation object but found " + parser.currentToken());
+        }
+
+        var observation = new Observation();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            var field = field(parser.currentName());
+            var token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+                parser.skipChildren();
+            } else if (token.isNumeric() && field == Field.RA) {
+                observation.setRa(parser.getDoubleValue());
+            } else if (token.isNumeric() && field == Field.DEC) {
+                observation.setDec(parser.getDoubleValue());
+            } else if (token.isNumeric() && field == Field.EXPOSURESEC) {
+                observation.setExposureSec(parser.getValueAsInt());
+            } else if (token != JsonToken.VALUE_NULL) {
+                try {
+                    set(observation, field, parser.getText());
+                } catch (IllegalArgumentException e) {
+                    throw new JsonParseException(parser, "Invalid value for " + parser.currentName() + ": " + e.getMessage(), e);
+                }
+            }
+        }
+        return observation;
+    }
+
+    /**
+     * Parses an ISO date-time; a trailing zone or offset is dropped and a plain date means midnight.
+     */
+    static LocalDateTime parseDate(String value) {
+        try {
+            if (value.length() == 10) {
+                return LocalDate.parse(value).atStartOfDay();
+            }
+            if (value.endsWith("Z")) {
+                return LocalDateTime.parse(value.substring(0, value.length() - 1));
+            }
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            try {
+                return OffsetDateTime.parse(value).toLocalDateTime();
+            } catch (DateTimeParseException ignored) {
+                throw new IllegalArgumentException("not an ISO date-time: " + value);
+            }
+        }
+    }
+
+    private static Field lookup(String name) {
+        var normalized = name.replace("_", "").toUpperCase(Locale.ROOT);
+        for (var field : Field.values()) {
+            if (field.name().equals(normalized)) {
+                return field;
+            }
+        }
+        return Field.UNKNOWN;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.cosmiccatalog;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Set;
+
+/**
+ * Extension point for import file formats.
+ * Implementations are Spring beans; {@link ObservationFormats} picks one per import by
+ * media type, then by file extension. To add a format, add a bean.
+ */
+public interface ObservationFormat {
+
+    /**
+     * Short name of the format, e.g. {@code csv}.
+     */
+    String name();
+
+    /**
+     * Media types this format reads, lower case and without parameters.
+     */
+    Set<String> mediaTypes();
+
+    /**
+     * File extensions this format reads, lower case and without the dot.
+     */
+    Set<String> extensions();
+
+    /**
+     * Opens a streaming reader over the input. The reader owns the stream and closes it.
+     *
+     * @param input raw input
+     * @return reader positioned before the first observation
+     * @throws IOException if the start of the input cannot be read
+     */
+    ObservationReader open(InputStream input) throws IOException;
+}
@@ -0,0 +1,67 @@
+package com.example.cosmiccatalog;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Registry of the available {@link ObservationFormat}s.
+ * A declared media type wins over the file extension, since uploads often carry generic names;
+ * input that matches neither is read as a JSON array, the original import format.
+ */
+@Component
+public class ObservationFormats {
+
+    static final String DEFAULT_FORMAT = "json";
+
+    private final List<ObservationFormat> formats;
+    private final ObservationFormat defaultFormat;
+
+    public ObservationFormats(List<ObservationFormat> formats) {
+        this.formats = List.copyOf(formats);
+        this.defaultFormat = formats.stream()
+                .filter(format -> format.name().equals(DEFAULT_FORMAT))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No '" + DEFAULT_FORMAT + "' observation format registered"));
+    }
+
+    /**
+     * Picks the format for an input.
+     *
+     * @param contentType declared media type, may be null or carry parameters such as a charset
+     * @param filename file or source name, may be null
+     * @return matching format, or the JSON array format
+     */
+    public ObservationFormat select(String contentType, String filename) {
+        return byMediaType(contentType)
+                .or(() -> byExtension(filename))
+                .orElse(defaultFormat);
+    }
+
+    public List<String> names() {
+        return formats.stream().map(ObservationFormat::name).toList();
+    }
+
+    private Optional<ObservationFormat> byMediaType(String contentType) {
+        if (contentType == null) {
+            return Optional.empty();
+        }
+        var semicolon = contentType.indexOf(';');
+        var mediaType = (semicolon < 0 ? contentType : contentType.substring(0, semicolon)).trim().toLowerCase(Locale.ROOT);
+        return formats.stream().filter(format -> format.mediaTypes().contains(mediaType)).findFirst();
+    }
+
+    private Optional<ObservationFormat> byExtension(String filename) {
+        if (filename == null) {
+            return Optional.empty();
+        }
+        var dot = filename.lastIndexOf('.');
+        if (dot < 0) {
+            return Optional.empty();
+        }
+        var extension = filename.substring(dot + 1).toLowerCase(Locale.ROOT);
+        return formats.stream().filter(format -> format.extensions().contains(extension)).findFirst();
+    }
+}
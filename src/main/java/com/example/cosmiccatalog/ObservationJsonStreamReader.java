@@ -0,0 +1,57 @@
+package com.example.cosmiccatalog;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams observations out of a top-level JSON array one bounded chunk at a time.
+ * Only the observations of the current chunk are held in memory; the document
+ * itself is never materialized as a tree, and fields are bound by {@link ObservationFields}.
+ */
+public class ObservationJsonStreamReader implements ObservationReader {
+
+    private final JsonParser parser;
+    private boolean exhausted;
+
+    /**
+     * @throws JsonParseException if the input is not empty and does not start with an array
+     */
+    public ObservationJsonStreamReader(ObjectMapper objectMapper, InputStream inputStream) throws IOException {
+        this.parser = objectMapper.getFactory().createParser(inputStream);
+
+        var first = parser.nextToken();
+        if (first != null && first != JsonToken.START_ARRAY) {
+            parser.close();
+            throw new JsonParseException(parser, "Expected a top-level JSON array of observations but found " + first);
+        }
+        this.exhausted = first == null;
+    }
+
+    @Override
+    public List<Observation> nextChunk(int maxSize) throws IOException {
+        var chunk = new ArrayList<Observation>(Math.min(maxSize, 1024));
+
+        while (!exhausted && chunk.size() < maxSize) {
+            var token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                exhausted = true;
+            } else if (token != JsonToken.VALUE_NULL) {
+                chunk.add(ObservationFields.read(parser));
+            }
+        }
+
+        return chunk;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
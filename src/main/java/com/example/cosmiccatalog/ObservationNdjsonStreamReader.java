@@ -0,0 +1,46 @@
+package com.example.cosmiccatalog;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams observations out of newline-delimited JSON, one object per line.
+ * The input is read as a sequence of root-level objects, so blank lines are skipped, and
+ * fields are bound by {@link ObservationFields} without data binding or a tree model.
+ */
+public class ObservationNdjsonStreamReader implements ObservationReader {
+
+    private final JsonParser parser;
+    private boolean exhausted;
+
+    public ObservationNdjsonStreamReader(ObjectMapper objectMapper, InputStream inputStream) throws IOException {
+        this.parser = objectMapper.getFactory().createParser(inputStream);
+    }
+
+    @Override
+    public List<Observation> nextChunk(int maxSize) throws IOException {
+        var chunk = new ArrayList<Observation>(Math.min(maxSize, 1024));
+
+        while (!exhausted && chunk.size() < maxSize) {
+            var token = parser.nextToken();
+            if (token == null) {
+                exhausted = true;
+            } else if (token != JsonToken.VALUE_NULL) {
+                chunk.add(ObservationFields.read(parser));
+            }
+        }
+
+        return chunk;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+}
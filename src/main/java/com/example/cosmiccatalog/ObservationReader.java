@@ -0,0 +1,21 @@
+package com.example.cosmiccatalog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Streams observations out of an import source one bounded chunk at a time.
+ * Implementations hold only the current chunk in memory and are read by a single thread.
+ */
+public interface ObservationReader extends Closeable {
+
+    /**
+     * Reads the next chunk of observations.
+     *
+     * @param maxSize maximum number of observations to return
+     * @return up to maxSize observations, or an empty list once the input is exhausted
+     * @throws IOException if the input cannot be read or parsed
+     */
+    List<Observation> nextChunk(int maxSize) throws IOException;
+}
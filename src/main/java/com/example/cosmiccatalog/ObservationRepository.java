@@ -1,13 +1,80 @@
 package com.example.cosmiccatalog;
 
+import com.example.cosmiccatalog.dto.ObservationDTO;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @Repository
 public interface ObservationRepository extends JpaRepository<Observation, Long> {
+
+    /**
+     * Selects rows straight into {@link ObservationDTO}s, so read paths skip entity hydration,
+     * the persistence context and dirty-checking snapshots.
+     */
+    String DTO_SELECT = """
+            SELECT new com.example.cosmiccatalog.dto.ObservationDTO(
+                o.id, o.telescope, o.programId, o.targetName, o.ra, o.dec, o.obsDate, o.instrument,
+                o.filters, o.exposureSec, o.imageUrl, o.score, o.status, o.version)
+            FROM Observation o
+            """;
+
     List<Observation> findByTelescopeAndTargetNameAndFilters(String telescope, String targetName, String filters);
+
+    /**
+     * Coordinates only, for {@link DuplicateIndex}: no entities are loaded or managed.
+     */
+    @Transactional(readOnly = true)
+    @Query("""
+            SELECT new com.example.cosmiccatalog.DuplicateIndex$Position(o.ra, o.dec)
+            FROM Observation o
+            WHERE o.telescope = :telescope AND o.targetName = :targetName AND o.filters = :filters
+            """)
+    List<DuplicateIndex.Position> findPositionsByGroup(@Param("telescope") String telescope,
+                                                       @Param("targetName") String targetName,
+                                                       @Param("filters") String filters);
     List<Observation> findByStatus(Observation.Status status, Pageable pageable);
+    List<Observation> findByIdGreaterThan(Long id, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(value = DTO_SELECT, countQuery = "SELECT count(o) FROM Observation o")
+    Page<ObservationDTO> findAllProjected(Pageable pageable);
+
+    /**
+     * Like {@link #findAllProjected(Pageable)}, without the count query.
+     */
+    @Transactional(readOnly = true)
+    @Query(DTO_SELECT)
+    List<ObservationDTO> findProjected(Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(DTO_SELECT + "WHERE o.status = :status")
+    List<ObservationDTO> findProjectedByStatus(@Param("status") Observation.Status status, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query(DTO_SELECT + "WHERE o.skyCell BETWEEN :from AND :to")
+    List<ObservationDTO> findProjectedBySkyCellBetween(@Param("from") long from, @Param("to") long to);
+
+    @Transactional(readOnly = true)
+    @Query(DTO_SELECT + "WHERE o.id > :id")
+    List<ObservationDTO> findProjectedByIdGreaterThan(@Param("id") long id, Pageable pageable);
+
+    /**
+     * Keyset page of one status after (score, id), for a score desc, id desc sort.
+     * Seeks on {@code idx_status_score} instead of skipping an offset.
+     */
+    @Transactional(readOnly = true)
+    @Query(DTO_SELECT + """
+            WHERE o.status = :status AND (o.score < :score OR (o.score = :score AND o.id < :id))
+            """)
+    List<ObservationDTO> findProjectedByStatusAfter(@Param("status") Observation.Status status,
+                                                    @Param("score") int score,
+                                                    @Param("id") long id,
+                                                    Pageable pageable);
 }
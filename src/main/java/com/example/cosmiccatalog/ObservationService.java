@@ -1,10 +1,16 @@
 package com.example.cosmiccatalog;
 
-import org.springframework.cache.annotation.Cacheable;
+import com.example.cosmiccatalog.dto.CursorPage;
+import com.example.cosmiccatalog.dto.ObservationDTO;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 @Service
@@ -12,10 +18,17 @@ public class ObservationService {
 
     private final ObservationRepository observationRepository;
     private final ScoringService scoringService;
+    private final ObservationBatchWriter observationBatchWriter;
+    private final FeaturedResultsCache featuredResultsCache;
 
-    public ObservationService(ObservationRepository observationRepository, ScoringService scoringService) {
+    public ObservationService(ObservationRepository observationRepository,
+                              ScoringService scoringService,
+                              ObservationBatchWriter observationBatchWriter,
+                              FeaturedResultsCache featuredResultsCache) {
         this.observationRepository = observationRepository;
         this.scoringService = scoringService;
+        this.observationBatchWriter = observationBatchWriter;
+        this.featuredResultsCache = featuredResultsCache;
     }
 
     public Observation saveWithScore(Observation observation) {
@@ -23,17 +36,117 @@ public class ObservationService {
         observation.setScore(score);
         return observationRepository.save(observation);
     }
-    
+
+    /**
+     * Inserts a chunk of already scored observations as one JDBC batch, in its own transaction
+     * when called without one.
+     *
+     * @param observations new, scored observations
+     * @return number of rows written
+     */
+    @Transactional
+    public int insertAll(List<Observation> observations) {
+        return observationBatchWriter.insertAll(observations);
+    }
+
+    /**
+     * Lists observations with offset pagination, projected straight into DTOs.
+     *
+     * @param pageable Spring Data pagination and sorting
+     * @return page of DTOs, with totals
+     */
+    @Transactional(readOnly = true)
+    public Page<ObservationDTO> list(Pageable pageable) {
+        return observationRepository.findAllProjected(pageable);
+    }
+
+    /**
+     * Lists the most recently added observations, without a count query.
+     *
+     * @param limit number of observations
+     * @return observations by id desc
+     */
+    @Transactional(readOnly = true)
+    public List<ObservationDTO> listRecent(int limit) {
+        return observationRepository.findProjected(PageRequest.of(0, limit, Sort.by("id").descending()));
+    }
+
+    /**
+     * Lists observations with keyset pagination.
+     * Without a status, rows come in id order from the primary key; with one, they come by
+     * score desc then id desc from {@code idx_status_score}. Each page seeks directly past the
+     * cursor and reads one extra row to tell whether another page follows, so there is no
+     * offset scan and no count query, and every page costs the same.
+     *
+     * @param after cursor from the previous page, or empty for the first page
+     * @param status status to list by score, or null to list everything by id
+     * @param size page size
+     * @return page with the cursor of the next one
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ObservationDTO> listAfter(String after, Observation.Status status, int size) {
+        var byScore = status != null;
+        var cursor = ObservationCursor.parse(after, byScore);
+        var page = PageRequest.of(0, size + 1,
+                byScore ? Sort.by(Sort.Direction.DESC, "score", "id") : Sort.by("id"));
+
+        List<ObservationDTO> rows;
+        if (!byScore) {
+            rows = observationRepository.findProjectedByIdGreaterThan(cursor != null ? cursor.id() : 0L, page);
+        } else if (cursor == null) {
+            rows = observationRepository.findProjectedByStatus(status, page);
+        } else {
+            rows = observationRepository.findProjectedByStatusAfter(status, cursor.score(), cursor.id(), page);
+        }
+
+        var content = rows.subList(0, Math.min(size, rows.size()));
+        var next = rows.size() > size
+                ? ObservationCursor.after(content.get(content.size() - 1), byScore).toString()
+                : null;
+        return new CursorPage<>(List.copyOf(content), content.size(), next);
+    }
+
+    /**
+     * Finds observations within a cone around a sky position.
+     * Candidates are narrowed to the covering {@link SkyCells} ranges on the indexed
+     * {@code skyCell} column, then filtered by exact great-circle distance, so the cost
+     * follows the number of rows near the position rather than the catalog size.
+     *
+     * @param ra cone centre right ascension in degrees
+     * @param dec cone centre declination in degrees
+     * @param radiusArcsec cone radius in arcseconds
+     * @return matching observations, nearest first
+     */
+    @Transactional(readOnly = true)
+    public List<ObservationDTO> findWithinCone(double ra, double dec, double radiusArcsec) {
+        var radiusDeg = radiusArcsec / 3600.0;
+        var matches = new ArrayList<ObservationDTO>();
+
+        for (var range : SkyCells.coneRanges(ra, dec, radiusDeg)) {
+            for (var candidate : observationRepository.findProjectedBySkyCellBetween(range.from(), range.to())) {
+                if (SkyCells.angularDistanceDeg(ra, dec, candidate.ra(), candidate.dec()) <= radiusDeg) {
+                    matches.add(candidate);
+                }
+            }
+        }
+
+        matches.sort(Comparator.comparingDouble(
+                o -> SkyCells.angularDistanceDeg(ra, dec, o.ra(), o.dec())));
+        return matches;
+    }
+
     /**
-     * Gets the top N observations by score, with caching.
+     * Gets the top N observations of any status by score, cached in the
+     * {@link CacheConfig#TOP_SCORED} region.
      * 
      * @param limit maximum number of observations to return
      * @return list of featured observations sorted by score descending
      */
-    @Cacheable(value = "featured", key = "#limit")
-    public List<Observation> getFeaturedObservations(int limit) {
-        var pageable = PageRequest.of(0, limit, Sort.by("score").descending());
-        return observationRepository.findAll(pageable).getContent();
+    public List<ObservationDTO> getFeaturedObservations(int limit) {
+        return featuredResultsCache.topScored(limit, () -> {
+            var pageable = PageRequest.of(0, limit, Sort.by("score").descending().and(Sort.by("id")));
+            return List.copyOf(observationRepository.findProjected(pageable));
+        });
     }
 }
 
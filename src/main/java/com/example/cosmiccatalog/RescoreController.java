@@ -0,0 +1,50 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.dto.RescoreStatus;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST endpoints for the background catalog rescoring job.
+ */
+@RestController
+@RequestMapping("/api/rescore")
+public class RescoreController {
+
+    private final RescoringJob rescoringJob;
+
+    public RescoreController(RescoringJob rescoringJob) {
+        this.rescoringJob = rescoringJob;
+    }
+
+    /**
+     * Starts a rescoring run in the background; returns the current run if one is already active.
+     *
+     * @param resume continue from the previous run's checkpoint
+     * @return 202 with the job status
+     */
+    @Operation(summary = "Rescore the catalog",
+               description = "Recomputes stored scores in the background; use resume=true to continue a cancelled or failed run")
+    @PostMapping
+    public ResponseEntity<RescoreStatus> start(@RequestParam(defaultValue = "false") boolean resume) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(rescoringJob.start(resume));
+    }
+
+    @Operation(summary = "Get rescoring job status")
+    @GetMapping
+    public RescoreStatus getStatus() {
+        return rescoringJob.getStatus();
+    }
+
+    @Operation(summary = "Cancel rescoring", description = "Stops the running job after its current chunk")
+    @PostMapping("/cancel")
+    public RescoreStatus cancel() {
+        return rescoringJob.cancel();
+    }
+}
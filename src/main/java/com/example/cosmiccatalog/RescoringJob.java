@@ -0,0 +1,180 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.dto.RescoreStatus;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Background job that recomputes stored scores for the whole catalog.
+ * <p>
+ * Recency makes scores drift as time passes, and rule changes make them stale at once.
+ * The job walks the {@code observations} table in id order with keyset pagination,
+ * scores each chunk in parallel slices, and writes back only the scores that changed in
+ * one batched UPDATE per chunk. Each committed chunk moves the affected entries of the
+ * {@link FeaturedIndex} and evicts only the featured results it can change.
+ * <p>
+ * Only one run is active at a time. The last processed id is kept as a checkpoint, so a
+ * cancelled or failed run can be resumed instead of starting over.
+ */
+@Service
+public class RescoringJob {
+    private static final Logger logger = LoggerFactory.getLogger(RescoringJob.class);
+
+    private final ObservationRepository observationRepository;
+    private final ScoringService scoringService;
+    private final ObservationBatchWriter observationBatchWriter;
+    private final int chunkSize;
+    private final int parallelism;
+
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(r -> {
+        var thread = new Thread(r, "rescore-job");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ExecutorService scoringExecutor;
+
+    private volatile RescoreStatus status = RescoreStatus.idle();
+    private volatile boolean cancelRequested;
+
+    public RescoringJob(ObservationRepository observationRepository,
+                        ScoringService scoringService,
+                        ObservationBatchWriter observationBatchWriter,
+                        @Value("${app.rescore.chunk-size:1000}") int chunkSize,
+                        @Value("${app.rescore.parallelism:0}") int parallelism) {
+        this.observationRepository = observationRepository;
+        this.scoringService = scoringService;
+        this.observationBatchWriter = observationBatchWriter;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.scoringExecutor = Executors.newFixedThreadPool(this.parallelism);
+    }
+
+    /**
+     * Starts a rescoring run in the background, unless one is already running.
+     *
+     * @param resume continue after the checkpoint of the previous run instead of from the first row
+     * @return status right after the request
+     */
+    public synchronized RescoreStatus start(boolean resume) {
+        if (status.state() == RescoreStatus.State.RUNNING) {
+            return status;
+        }
+        var fromId = resume ? status.lastProcessedId() : 0L;
+        var scanned = resume ? status.scanned() : 0L;
+        var updated = resume ? status.updated() : 0L;
+
+        cancelRequested = false;
+        status = new RescoreStatus(RescoreStatus.State.RUNNING, LocalDateTime.now(), null,
+                fromId, scanned, updated, null);
+        jobExecutor.submit(this::run);
+        return status;
+    }
+
+    /**
+     * Asks a running job to stop after its current chunk.
+     *
+     * @return current status
+     */
+    public RescoreStatus cancel() {
+        cancelRequested = true;
+        return status;
+    }
+
+    public RescoreStatus getStatus() {
+        return status;
+    }
+
+    private void run() {
+        var current = status;
+        var lastId = current.lastProcessedId();
+        var scanned = current.scanned();
+        var updated = current.updated();
+        var finalState = RescoreStatus.State.COMPLETED;
+        String error = null;
+
+        logger.info("Rescoring catalog from id > {}", lastId);
+        try {
+            List<Observation> chunk;
+            do {
+                if (cancelRequested) {
+                    finalState = RescoreStatus.State.CANCELLED;
+                    break;
+                }
+
+                chunk = observationRepository.findByIdGreaterThan(lastId, PageRequest.of(0, chunkSize, Sort.by("id")));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                updated += observationBatchWriter.updateScores(rescore(chunk));
+                scanned += chunk.size();
+                lastId = chunk.get(chunk.size() - 1).getId();
+                status = new RescoreStatus(RescoreStatus.State.RUNNING, current.startedAt(), null,
+                        lastId, scanned, updated, null);
+            } while (chunk.size() == chunkSize);
+        } catch (Exception e) {
+            logger.error("Rescoring failed after id {}", lastId, e);
+            finalState = RescoreStatus.State.FAILED;
+            error = e.getMessage();
+        }
+
+        status = new RescoreStatus(finalState, current.startedAt(), LocalDateTime.now(),
+                lastId, scanned, updated, error);
+        logger.info("Rescoring {}: {} observations scanned, {} scores updated",
+                finalState.name().toLowerCase(), scanned, updated);
+    }
+
+    /**
+     * Scores a chunk in parallel slices and returns the rows whose score changed.
+     */
+    private List<ObservationBatchWriter.ScoreUpdate> rescore(List<Observation> chunk)
+            throws InterruptedException, ExecutionException {
+        var oldScores = new int[chunk.size()];
+        for (var i = 0; i < oldScores.length; i++) {
+            oldScores[i] = chunk.get(i).getScore();
+        }
+
+        var sliceSize = Math.max(1, (chunk.size() + parallelism - 1) / parallelism);
+        var slices = new ArrayList<Callable<Void>>();
+        for (var from = 0; from < chunk.size(); from += sliceSize) {
+            var slice = chunk.subList(from, Math.min(chunk.size(), from + sliceSize));
+            slices.add(() -> {
+                scoringService.scoreBatch(slice);
+                return null;
+            });
+        }
+        for (var future : scoringExecutor.invokeAll(slices)) {
+            future.get(); // propagate scoring failures
+        }
+
+        var updates = new ArrayList<ObservationBatchWriter.ScoreUpdate>();
+        for (var i = 0; i < oldScores.length; i++) {
+            var observation = chunk.get(i);
+            if (observation.getScore() != oldScores[i]) {
+                updates.add(new ObservationBatchWriter.ScoreUpdate(
+                        observation.getId(), oldScores[i], observation.getScore()));
+            }
+        }
+        return updates;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        cancelRequested = true;
+        jobExecutor.shutdownNow();
+        scoringExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.cosmiccatalog;
+
+import java.util.List;
+
+/**
+ * Scoring rule set as written in the rules file (see {@code scoring-rules.json}).
+ * Each rule group awards the points of its first matching rule; the group scores are summed
+ * and capped at {@code maxScore}. Rules are compiled by {@link CompiledScoringRules} before use.
+ */
+public record ScoringRules(
+    List<ExposureRule> exposure,
+    List<RecencyRule> recency,
+    List<InstrumentRule> instrument,
+    List<FilterRule> filters,
+    int maxScore
+) {
+
+    /**
+     * Awards points when the exposure is strictly longer than {@code minSeconds}.
+     */
+    public record ExposureRule(int minSeconds, int points) {}
+
+    /**
+     * Awards points when the observation is fewer than {@code maxAgeDays} whole days old.
+     */
+    public record RecencyRule(int maxAgeDays, int points) {}
+
+    /**
+     * Awards points when the instrument name contains {@code contains}.
+     */
+    public record InstrumentRule(String contains, int points) {}
+
+    /**
+     * Awards points when the filters contain a code matching {@code pattern} (see {@link FilterCodeMatcher}).
+     */
+    public record FilterRule(String pattern, int points) {}
+
+    /**
+     * Built-in rules, identical to the bundled rules file.
+     */
+    public static ScoringRules defaults() {
+        return new ScoringRules(
+            List.of(new ExposureRule(600, 30), new ExposureRule(300, 15)),
+            List.of(new RecencyRule(365, 20), new RecencyRule(1825, 10)),
+            List.of(new InstrumentRule("NIRCAM", 30),   // JWST NIRCam
+                    new InstrumentRule("WFC3", 25),     // HST Wide Field Camera 3
+                    new InstrumentRule("ACS", 10)),     // HST Advanced Camera
+            List.of(new FilterRule("F[1-4]##[WM]", 15)),
+            100
+        );
+    }
+}
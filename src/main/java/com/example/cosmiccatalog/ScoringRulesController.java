@@ -0,0 +1,44 @@
+package com.example.cosmiccatalog;
+
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST endpoints for inspecting and swapping the active scoring rules without a restart.
+ * Stored scores are not recomputed when rules change.
+ */
+@RestController
+@RequestMapping("/api/scoring/rules")
+public class ScoringRulesController {
+
+    private final ScoringRulesRegistry scoringRulesRegistry;
+
+    public ScoringRulesController(ScoringRulesRegistry scoringRulesRegistry) {
+        this.scoringRulesRegistry = scoringRulesRegistry;
+    }
+
+    @Operation(summary = "Get active scoring rules")
+    @GetMapping
+    public ScoringRules getRules() {
+        return scoringRulesRegistry.current().source();
+    }
+
+    @Operation(summary = "Replace scoring rules",
+               description = "Compiles and activates the given rules; invalid rules are rejected and the active set is kept")
+    @PutMapping
+    public ScoringRules replaceRules(@RequestBody ScoringRules rules) {
+        return scoringRulesRegistry.replace(rules).source();
+    }
+
+    @Operation(summary = "Reload scoring rules",
+               description = "Re-reads the configured rules file and activates it")
+    @PostMapping("/reload")
+    public ScoringRules reloadRules() {
+        return scoringRulesRegistry.reload().source();
+    }
+}
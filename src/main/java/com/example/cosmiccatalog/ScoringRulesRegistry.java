@@ -0,0 +1,80 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.exception.InvalidScoringRulesException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Holds the active scoring rules and swaps them at runtime.
+ * Rules are loaded from {@code app.scoring.rules-location} at startup and compiled once;
+ * a reload or replacement compiles the new set first and only publishes it if it is valid,
+ * so scoring never sees a half-built rule set.
+ */
+@Component
+public class ScoringRulesRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(ScoringRulesRegistry.class);
+
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final String rulesLocation;
+
+    private volatile CompiledScoringRules current;
+
+    public ScoringRulesRegistry(ResourceLoader resourceLoader,
+                                ObjectMapper objectMapper,
+                                @Value("${app.scoring.rules-location:classpath:scoring-rules.json}") String rulesLocation) {
+        this.resourceLoader = resourceLoader;
+        this.objectMapper = objectMapper;
+        this.rulesLocation = rulesLocation;
+        this.current = load();
+    }
+
+    /**
+     * @return the rules currently used for scoring
+     */
+    public CompiledScoringRules current() {
+        return current;
+    }
+
+    /**
+     * Re-reads and activates the rules file.
+     *
+     * @return the newly active rules
+     * @throws InvalidScoringRulesException if the file cannot be read or compiled; the active rules are kept
+     */
+    public CompiledScoringRules reload() {
+        var compiled = load();
+        current = compiled;
+        logger.info("Reloaded scoring rules from {}", rulesLocation);
+        return compiled;
+    }
+
+    /**
+     * Activates the given rules until the next reload.
+     *
+     * @param rules rules to activate
+     * @return the newly active rules
+     * @throws InvalidScoringRulesException if the rules cannot be compiled; the active rules are kept
+     */
+    public CompiledScoringRules replace(ScoringRules rules) {
+        var compiled = CompiledScoringRules.compile(rules);
+        current = compiled;
+        logger.info("Replaced scoring rules at runtime");
+        return compiled;
+    }
+
+    private CompiledScoringRules load() {
+        var resource = resourceLoader.getResource(rulesLocation);
+        try (var inputStream = resource.getInputStream()) {
+            return CompiledScoringRules.compile(objectMapper.readValue(inputStream, ScoringRules.class));
+        } catch (IOException e) {
+            throw new InvalidScoringRulesException("cannot read " + rulesLocation, e);
+        }
+    }
+}
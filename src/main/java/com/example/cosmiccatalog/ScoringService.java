@@ -1,5 +1,15 @@
 package com.example.cosmiccatalog;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface ScoringService {
     int calculateScore(Observation observation);
+
+    int calculateScore(Observation observation, LocalDateTime now);
+
+    /**
+     * Scores every observation in place against a single "now".
+     */
+    void scoreBatch(List<Observation> observations);
 }
@@ -1,57 +1,81 @@
 package com.example.cosmiccatalog;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
+/**
+ * Scores observations with the active {@link CompiledScoringRules}.
+ * The rules are read once per call or per batch, and recency cut-offs are derived from
+ * a single "now", so scoring a row does not allocate.
+ * <p>
+ * Batches are timed as {@code catalog.scoring} ({@code mode=batch}) and
+ * {@code catalog.scoring.rows} counts the rows they score. Single calls are left untimed so
+ * per-row scoring stays free of metric work; their callers are timed instead.
+ */
 @Service
 public class ScoringServiceImpl implements ScoringService {
 
-    @Override
-    public int calculateScore(Observation observation) {
-        var exposureScore = calculateExposureScore(observation.getExposureSec());
-        var recencyScore = calculateRecencyScore(observation.getObsDate());
-        var instrumentScore = calculateInstrumentScore(observation.getInstrument());
-        var filterScore = calculateFilterScore(observation.getFilters());
-        
-        var totalScore = exposureScore + recencyScore + instrumentScore + filterScore;
-        
-        // Easter egg: "Don't Panic" - properly implemented
-        if (totalScore == 42) {
-            // Score of 42 triggers special badge in UI
-            return 42; // The Answer to Life, the Universe, and Everything
-        }
-        
-        return Math.min(100, totalScore);
+    private final Supplier<CompiledScoringRules> rules;
+    private final Timer batchTimer;
+    private final Counter batchRows;
+
+    /**
+     * Uses the built-in default rules, with metrics kept locally.
+     */
+    public ScoringServiceImpl() {
+        this(fixed(CompiledScoringRules.compile(ScoringRules.defaults())), new SimpleMeterRegistry());
     }
-    
-    private int calculateExposureScore(int exposureSec) {
-        if (exposureSec > 600) return 30;
-        if (exposureSec > 300) return 15;
-        return 0;
+
+    @Autowired
+    public ScoringServiceImpl(ScoringRulesRegistry scoringRulesRegistry, MeterRegistry meterRegistry) {
+        this(scoringRulesRegistry::current, meterRegistry);
+    }
+
+    private ScoringServiceImpl(Supplier<CompiledScoringRules> rules, MeterRegistry meterRegistry) {
+        this.rules = rules;
+        this.batchTimer = Timer.builder("catalog.scoring")
+                .description("Observation scoring")
+                .tag("mode", "batch")
+                .register(meterRegistry);
+        this.batchRows = Counter.builder("catalog.scoring.rows")
+                .description("Rows scored in batches")
+                .register(meterRegistry);
+    }
+
+    private static Supplier<CompiledScoringRules> fixed(CompiledScoringRules compiled) {
+        return () -> compiled;
     }
-    
-    private int calculateRecencyScore(LocalDateTime obsDate) {
-        var daysSince = Duration.between(obsDate, LocalDateTime.now()).toDays();
-        
-        if (daysSince < 365) return 20;
-        if (daysSince < 1825) return 10;
-        return 0;
+
+    @Override
+    public int calculateScore(Observation observation) {
+        return calculateScore(observation, LocalDateTime.now());
     }
-    
-    private int calculateInstrumentScore(String instrument) {
-        // Modern pattern matching with text blocks for documentation
-        return switch (instrument) {
-            case String i when i.contains("NIRCAM") -> 30;  // JWST NIRCam
-            case String i when i.contains("WFC3") -> 25;    // HST Wide Field Camera 3
-            case String i when i.contains("ACS") -> 10;     // HST Advanced Camera
-            default -> 0;
-        };
+
+    @Override
+    public int calculateScore(Observation observation, LocalDateTime now) {
+        var compiled = rules.get();
+        return compiled.score(observation, compiled.recencyCutoffs(now));
     }
-    
-    private int calculateFilterScore(String filters) {
-        // Using modern regex pattern matching
-        return filters.matches(".*(F[1-4]\\d{2}[WM]).*") ? 15 : 0;
+
+    @Override
+    public void scoreBatch(List<Observation> observations) {
+        var started = System.nanoTime();
+        var compiled = rules.get();
+        var cutoffs = compiled.recencyCutoffs(LocalDateTime.now());
+
+        for (var observation : observations) {
+            observation.setScore(compiled.score(observation, cutoffs));
+        }
+        batchTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        batchRows.increment(observations.size());
     }
 }
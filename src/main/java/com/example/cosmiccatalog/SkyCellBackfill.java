@@ -0,0 +1,49 @@
+package com.example.cosmiccatalog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fills in {@code sky_cell} for observations stored before the column existed.
+ * Runs once at startup and is a no-op when every row already has a cell.
+ * Updates go through JDBC so the optimistic-lock version of existing rows is left untouched.
+ */
+@Component
+public class SkyCellBackfill implements ApplicationRunner {
+    private static final Logger logger = LoggerFactory.getLogger(SkyCellBackfill.class);
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SkyCellBackfill(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        var total = 0;
+        while (true) {
+            var updates = jdbcTemplate.query(
+                    "SELECT id, ra, dec FROM observations WHERE sky_cell IS NULL ORDER BY id LIMIT ?",
+                    (rs, rowNum) -> new Object[] {
+                            SkyCells.cellOf(rs.getDouble("ra"), rs.getDouble("dec")),
+                            rs.getLong("id")
+                    },
+                    BATCH_SIZE);
+            if (updates.isEmpty()) {
+                break;
+            }
+            jdbcTemplate.batchUpdate("UPDATE observations SET sky_cell = ? WHERE id = ?", updates);
+            total += updates.size();
+        }
+
+        if (total > 0) {
+            logger.info("Backfilled sky cells for {} observations", total);
+        }
+    }
+}
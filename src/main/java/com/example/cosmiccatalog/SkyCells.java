@@ -0,0 +1,125 @@
+package com.example.cosmiccatalog;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Sky partitioning used by the {@code skyCell} column of {@link Observation}.
+ * <p>
+ * The sphere is cut into declination zones of {@value #CELL_SIZE_DEG} degrees, and each zone
+ * into RA cells of the same width. Cell ids are numbered zone by zone, so any RA interval
+ * inside one zone is a contiguous id range and a cone maps to a handful of
+ * {@code BETWEEN} ranges on an indexed column.
+ */
+public final class SkyCells {
+
+    static final double CELL_SIZE_DEG = 0.1;
+    static final int CELLS_PER_DEGREE = 10;
+    static final int ZONES = 180 * CELLS_PER_DEGREE;
+    static final int RA_CELLS = 360 * CELLS_PER_DEGREE;
+
+    private SkyCells() {
+    }
+
+    /**
+     * Contiguous range of cell ids, both ends inclusive.
+     */
+    public record CellRange(long from, long to) {
+    }
+
+    /**
+     * Returns the id of the cell containing a position.
+     *
+     * @param ra right ascension in degrees
+     * @param dec declination in degrees
+     * @return sky cell id
+     */
+    public static long cellOf(double ra, double dec) {
+        return (long) zoneOf(dec) * RA_CELLS + raCellOf(normalizeRa(ra));
+    }
+
+    /**
+     * Returns the cell id ranges covering a cone. The ranges are a superset of the cone,
+     * so candidates still need an exact distance check.
+     *
+     * @param ra cone centre right ascension in degrees
+     * @param dec cone centre declination in degrees
+     * @param radiusDeg cone radius in degrees
+     * @return sorted, non-overlapping cell id ranges
+     */
+    public static List<CellRange> coneRanges(double ra, double dec, double radiusDeg) {
+        var decMin = Math.max(-90.0, dec - radiusDeg);
+        var decMax = Math.min(90.0, dec + radiusDeg);
+        var halfWidth = raHalfWidth(dec, radiusDeg, decMin, decMax);
+
+        var ranges = new ArrayList<CellRange>();
+        for (var zone = zoneOf(decMin); zone <= zoneOf(decMax); zone++) {
+            long base = (long) zone * RA_CELLS;
+            if (halfWidth >= 180.0) {
+                ranges.add(new CellRange(base, base + RA_CELLS - 1));
+                continue;
+            }
+
+            var raLo = normalizeRa(ra - halfWidth);
+            var raHi = normalizeRa(ra + halfWidth);
+            if (raLo <= raHi) {
+                ranges.add(new CellRange(base + raCellOf(raLo), base + raCellOf(raHi)));
+            } else {
+                // RA interval wraps through 0
+                ranges.add(new CellRange(base, base + raCellOf(raHi)));
+                ranges.add(new CellRange(base + raCellOf(raLo), base + RA_CELLS - 1));
+            }
+        }
+        return merge(ranges);
+    }
+
+    /**
+     * Great-circle distance between two positions (haversine formula).
+     *
+     * @return angular distance in degrees
+     */
+    public static double angularDistanceDeg(double ra1, double dec1, double ra2, double dec2) {
+        var dDec = Math.toRadians(dec2 - dec1);
+        var dRa = Math.toRadians(ra2 - ra1);
+        var a = Math.pow(Math.sin(dDec / 2), 2)
+                + Math.cos(Math.toRadians(dec1)) * Math.cos(Math.toRadians(dec2)) * Math.pow(Math.sin(dRa / 2), 2);
+        return Math.toDegrees(2 * Math.asin(Math.min(1.0, Math.sqrt(a))));
+    }
+
+    private static double raHalfWidth(double dec, double radiusDeg, double decMin, double decMax) {
+        if (decMin <= -90.0 || decMax >= 90.0) {
+            return 180.0; // cone contains a pole
+        }
+        var ratio = Math.sin(Math.toRadians(radiusDeg)) / Math.cos(Math.toRadians(dec));
+        return ratio >= 1.0 ? 180.0 : Math.toDegrees(Math.asin(ratio));
+    }
+
+    private static int zoneOf(double dec) {
+        var zone = (int) Math.floor((dec + 90.0) * CELLS_PER_DEGREE);
+        return Math.max(0, Math.min(ZONES - 1, zone));
+    }
+
+    private static int raCellOf(double normalizedRa) {
+        return Math.min(RA_CELLS - 1, (int) Math.floor(normalizedRa * CELLS_PER_DEGREE));
+    }
+
+    private static double normalizeRa(double ra) {
+        var normalized = ra % 360.0;
+        return normalized < 0 ? normalized + 360.0 : normalized;
+    }
+
+    private static List<CellRange> merge(List<CellRange> ranges) {
+        ranges.sort(Comparator.comparingLong(CellRange::from));
+        var merged = new ArrayList<CellRange>(ranges.size());
+        for (var range : ranges) {
+            var last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && range.from() <= last.to() + 1) {
+                merged.set(merged.size() - 1, new CellRange(last.from(), Math.max(last.to(), range.to())));
+            } else {
+                merged.add(range);
+            }
+        }
+        return merged;
+    }
+}
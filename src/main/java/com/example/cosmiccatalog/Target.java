@@ -1,11 +1,13 @@
 package com.example.cosmiccatalog;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 
 @Entity
+@EntityListeners(TargetChangeListener.class)
 public class Target {
 
     @Id
@@ -0,0 +1,30 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.event.TargetsChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * JPA entity listener that turns target inserts and deletes into {@link TargetsChangedEvent}s.
+ */
+@Component
+public class TargetChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TargetChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    void created(Target target) {
+        eventPublisher.publishEvent(new TargetsChangedEvent(1));
+    }
+
+    @PostRemove
+    void deleted(Target target) {
+        eventPublisher.publishEvent(new TargetsChangedEvent(-1));
+    }
+}
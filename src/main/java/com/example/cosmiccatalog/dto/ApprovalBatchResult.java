@@ -0,0 +1,14 @@
+package com.example.cosmiccatalog.dto;
+
+import java.util.List;
+
+/**
+ * Result of a bulk approval, with one entry per requested item in request order.
+ *
+ * @param approved items approved
+ * @param conflicts items whose version did not match
+ * @param notFound items whose observation does not exist
+ * @param results per-item outcomes
+ */
+public record ApprovalBatchResult(int approved, int conflicts, int notFound, List<ApprovalResult> results) {
+}
@@ -0,0 +1,10 @@
+package com.example.cosmiccatalog.dto;
+
+/**
+ * One item of a bulk approval.
+ *
+ * @param id observation id
+ * @param expectedVersion optimistic lock guard; when null, the current version is used
+ */
+public record ApprovalRequest(Long id, Integer expectedVersion) {
+}
@@ -0,0 +1,32 @@
+package com.example.cosmiccatalog.dto;
+
+/**
+ * Outcome of one item of a bulk approval.
+ *
+ * @param id observation id
+ * @param outcome whether the item was approved
+ * @param expectedVersion version the request expected, if any
+ * @param actualVersion version found when the item conflicted; null if the row changed while the batch ran
+ * @param observation the approved observation, for APPROVED items only
+ */
+public record ApprovalResult(Long id, Outcome outcome, Integer expectedVersion, Integer actualVersion,
+                             ObservationDTO observation) {
+
+    public enum Outcome {
+        APPROVED,
+        CONFLICT,
+        NOT_FOUND
+    }
+
+    public static ApprovalResult approved(ObservationDTO observation, Integer expectedVersion) {
+        return new ApprovalResult(observation.id(), Outcome.APPROVED, expectedVersion, null, observation);
+    }
+
+    public static ApprovalResult conflict(Long id, Integer expectedVersion, Integer actualVersion) {
+        return new ApprovalResult(id, Outcome.CONFLICT, expectedVersion, actualVersion, null);
+    }
+
+    public static ApprovalResult notFound(Long id, Integer expectedVersion) {
+        return new ApprovalResult(id, Outcome.NOT_FOUND, expectedVersion, null, null);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.cosmiccatalog.dto;
+
+/**
+ * Size, settings and hit/miss counters of one cache region since startup.
+ * {@code hitRate} is 1.0 while the region has not been read yet.
+ */
+public record CacheRegionStats(
+    String region,
+    long size,
+    long maximumSize,
+    long expireAfterWriteSeconds,
+    long hits,
+    long misses,
+    double hitRate,
+    long evictions
+) {
+}
@@ -0,0 +1,15 @@
+package com.example.cosmiccatalog.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset listing.
+ * Pass {@code next} as {@code after} to get the following page; it is null on the last page.
+ * No total is reported, since counting would cost a scan of the table on every request.
+ */
+public record CursorPage<T>(
+    List<T> content,
+    int size,
+    String next
+) {
+}
@@ -5,6 +5,11 @@ public record HealthInfo(
         Counts counts,
         String lastImport
 ){
-    public record Counts(int obs, int targets) {}
+    /**
+     * @param obs observation rows
+     * @param targets target rows
+     * @param exact whether the rows were counted for this request
+     * @param reconciledAt when the counts were last taken from the database (ISO timestamp)
+     */
+    public record Counts(long obs, long targets, boolean exact, String reconciledAt) {}
 }
-
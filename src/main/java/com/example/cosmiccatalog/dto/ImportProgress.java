@@ -0,0 +1,46 @@
+package com.example.cosmiccatalog.dto;
+
+import com.example.cosmiccatalog.ImportBatch;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Progress of an import job, as stored on its {@link ImportBatch}.
+ * {@code stages} holds live pipeline counters while the job runs and is empty otherwise.
+ */
+public record ImportProgress(
+    Long id,
+    String source,
+    ImportBatch.Status status,
+    LocalDateTime startedAt,
+    LocalDateTime completedAt,
+    int rowsParsed,
+    int imported,
+    int duplicates,
+    int checkpointRow,
+    double rowsPerSecond,
+    String notes,
+    List<ImportStageStats> stages
+) {
+    public static ImportProgress from(ImportBatch batch) {
+        return from(batch, List.of());
+    }
+
+    public static ImportProgress from(ImportBatch batch, List<ImportStageStats> stages) {
+        return new ImportProgress(
+            batch.getId(),
+            batch.getSource(),
+            batch.getStatus(),
+            batch.getStartedAt(),
+            batch.getCompletedAt(),
+            batch.getTotalRows(),
+            batch.getImportedCount(),
+            batch.getDuplicateCount(),
+            batch.getCheckpointRow(),
+            batch.getRowsPerSecond(),
+            batch.getNotes(),
+            stages
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.cosmiccatalog.dto;
+
+/**
+ * Counters for one stage of a running import pipeline.
+ * {@code utilization} is the share of the stage's thread time spent working rather than
+ * waiting on its queues; the bottleneck is the stage close to 1.0 whose input queue stays full.
+ */
+public record ImportStageStats(
+    String stage,
+    int threads,
+    long rows,
+    double rowsPerSecond,
+    double utilization,
+    int queuedChunks,
+    int queueCapacity
+) {
+}
@@ -21,9 +21,20 @@ public record ObservationDTO(
     String imageUrl,
     int score,
     Observation.Status status,
+    int version,
     boolean hasDontPanicBadge
 ) {
-    
+
+    /**
+     * Constructor for JPQL constructor expressions; derives the badge from the score.
+     */
+    public ObservationDTO(Long id, String telescope, String programId, String targetName, double ra, double dec,
+                          LocalDateTime obsDate, String instrument, String filters, int exposureSec,
+                          String imageUrl, int score, Observation.Status status, int version) {
+        this(id, telescope, programId, targetName, ra, dec, obsDate, instrument, filters, exposureSec,
+            imageUrl, score, status, version, score == 42);
+    }
+
     /**
      * Factory method to create DTO from entity
      */
@@ -42,7 +53,24 @@ public record ObservationDTO(
             entity.getImageUrl(),
             entity.getScore(),
             entity.getStatus(),
+            entity.getVersion(),
             entity.getScore() == 42
         );
     }
+
+    /**
+     * Copy of this DTO with a new score, e.g. after a rescore written through JDBC.
+     */
+    public ObservationDTO withScore(int newScore) {
+        return new ObservationDTO(id, telescope, programId, targetName, ra, dec, obsDate, instrument,
+            filters, exposureSec, imageUrl, newScore, status, version, newScore == 42);
+    }
+
+    /**
+     * Copy of this DTO as a bulk approval writes it through JDBC: approved, rescored, next version.
+     */
+    public ObservationDTO asApproved(int newScore) {
+        return new ObservationDTO(id, telescope, programId, targetName, ra, dec, obsDate, instrument,
+            filters, exposureSec, imageUrl, newScore, Observation.Status.APPROVED, version + 1, newScore == 42);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.example.cosmiccatalog.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Snapshot of the catalog rescoring job.
+ * {@code lastProcessedId} is the keyset checkpoint a resumed run continues from.
+ */
+public record RescoreStatus(
+    State state,
+    LocalDateTime startedAt,
+    LocalDateTime completedAt,
+    long lastProcessedId,
+    long scanned,
+    long updated,
+    String error
+) {
+    public enum State {
+        IDLE, RUNNING, COMPLETED, CANCELLED, FAILED
+    }
+
+    public static RescoreStatus idle() {
+        return new RescoreStatus(State.IDLE, null, null, 0, 0, 0, null);
+    }
+}
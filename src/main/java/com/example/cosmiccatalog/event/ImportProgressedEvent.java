@@ -0,0 +1,11 @@
+package com.example.cosmiccatalog.event;
+
+import com.example.cosmiccatalog.dto.ImportProgress;
+
+/**
+ * Published whenever an import saves its progress, including its final status.
+ *
+ * @param progress the import's progress as saved
+ */
+public record ImportProgressedEvent(ImportProgress progress) {
+}
@@ -0,0 +1,20 @@
+package com.example.cosmiccatalog.event;
+
+import com.example.cosmiccatalog.dto.ObservationDTO;
+
+/**
+ * Published when a single observation is inserted, updated or deleted through JPA.
+ * Listeners that only care about committed state should use
+ * {@code @TransactionalEventListener}, which delivers it after the commit.
+ *
+ * @param observation the observation as written
+ * @param change whether the row was created, updated or deleted
+ */
+public record ObservationChangedEvent(ObservationDTO observation, Change change) {
+
+    public enum Change {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.cosmiccatalog.event;
+
+import com.example.cosmiccatalog.dto.ObservationDTO;
+
+import java.util.List;
+
+/**
+ * Published when a bulk approval writes its batch through JDBC, which bypasses
+ * the JPA entity callbacks.
+ *
+ * @param observations the approved observations as written
+ */
+public record ObservationsApprovedEvent(List<ObservationDTO> observations) {
+}
@@ -0,0 +1,11 @@
+package com.example.cosmiccatalog.event;
+
+/**
+ * Published when a chunk of observations is batch-inserted through JDBC.
+ * The generated ids are not read back, so only counts are carried.
+ *
+ * @param inserted rows inserted
+ * @param approved how many of them were inserted as APPROVED
+ */
+public record ObservationsImportedEvent(int inserted, int approved) {
+}
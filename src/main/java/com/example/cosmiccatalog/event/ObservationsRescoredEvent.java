@@ -0,0 +1,14 @@
+package com.example.cosmiccatalog.event;
+
+import com.example.cosmiccatalog.ObservationBatchWriter;
+
+import java.util.List;
+
+/**
+ * Published when a batch of stored scores is rewritten through JDBC, which bypasses
+ * the JPA entity callbacks.
+ *
+ * @param updates score changes in the batch
+ */
+public record ObservationsRescoredEvent(List<ObservationBatchWriter.ScoreUpdate> updates) {
+}
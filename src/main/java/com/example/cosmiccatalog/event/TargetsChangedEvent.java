@@ -0,0 +1,9 @@
+package com.example.cosmiccatalog.event;
+
+/**
+ * Published when targets are inserted or deleted through JPA.
+ *
+ * @param delta change in the number of targets
+ */
+public record TargetsChangedEvent(int delta) {
+}
@@ -0,0 +1,11 @@
+package com.example.cosmiccatalog.exception;
+
+/**
+ * Exception thrown when an import batch cannot be resumed in its current state.
+ */
+public class ImportNotResumableException extends RuntimeException {
+
+    public ImportNotResumableException(Long importId, String reason) {
+        super("Import " + importId + " cannot be resumed: " + reason);
+    }
+}
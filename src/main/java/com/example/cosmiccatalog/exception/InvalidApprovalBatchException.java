@@ -0,0 +1,11 @@
+package com.example.cosmiccatalog.exception;
+
+/**
+ * Exception thrown when a bulk approval is empty, too large, or lists an id more than once.
+ */
+public class InvalidApprovalBatchException extends RuntimeException {
+
+    public InvalidApprovalBatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.cosmiccatalog.exception;
+
+/**
+ * Exception thrown when a listing cursor is malformed or does not match the requested ordering.
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String cursor, String expected) {
+        super("Invalid cursor '" + cursor + "': expected " + expected);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.cosmiccatalog.exception;
+
+/**
+ * Exception thrown when an import source is outside the import directory or is not a readable file.
+ */
+public class InvalidImportSourceException extends RuntimeException {
+
+    public InvalidImportSourceException(String message) {
+        super("Invalid import source: " + message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.cosmiccatalog.exception;
+
+/**
+ * Exception thrown when a scoring rule set cannot be compiled.
+ */
+public class InvalidScoringRulesException extends RuntimeException {
+
+    public InvalidScoringRulesException(String message) {
+        super("Invalid scoring rules: " + message);
+    }
+
+    public InvalidScoringRulesException(String message, Throwable cause) {
+        super("Invalid scoring rules: " + message, cause);
+    }
+}
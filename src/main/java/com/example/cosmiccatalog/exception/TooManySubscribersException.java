@@ -0,0 +1,11 @@
+package com.example.cosmiccatalog.exception;
+
+/**
+ * Exception thrown when the event stream already has its maximum number of subscribers.
+ */
+public class TooManySubscribersException extends RuntimeException {
+
+    public TooManySubscribersException(int maxSubscribers) {
+        super("The event stream is at its limit of " + maxSubscribers + " subscribers; retry later");
+    }
+}
@@ -2,9 +2,12 @@ package com.example.cosmiccatalog;
 
 import com.example.cosmiccatalog.exception.EntityNotFoundException;
 import com.example.cosmiccatalog.exception.VersionConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +27,12 @@ class ApprovalServiceTest {
     @Autowired
     private ObservationRepository observationRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void testApproveObservation() {
         // Create test observation
@@ -80,9 +89,34 @@ class ApprovalServiceTest {
         observation.setObsDate(java.time.LocalDateTime.now());
         var savedObservation = observationRepository.save(observation);
         
+        var conflicts = meterRegistry.timer("catalog.approval", "outcome", "conflict");
+        var before = conflicts.count();
+
         // Try to approve with wrong version
         assertThrows(VersionConflictException.class, 
             () -> approvalService.approve(savedObservation.getId(), 999));
+        assertEquals(before + 1, conflicts.count());
+    }
+
+    @Test
+    void testConcurrentUpdateCountsAsConflict() {
+        var observation = new Observation();
+        observation.setTelescope("JWST");
+        observation.setProgramId("TEST-004");
+        observation.setTargetName("Test Target");
+        observation.setRa(10.0);
+        observation.setDec(20.0);
+        observation.setObsDate(java.time.LocalDateTime.now());
+        var savedObservation = observationRepository.saveAndFlush(observation);
+        // Another writer bumps the row behind the persistence context
+        jdbcTemplate.update("UPDATE observations SET version = version + 1 WHERE id = ?", savedObservation.getId());
+
+        var conflicts = meterRegistry.timer("catalog.approval", "outcome", "conflict");
+        var before = conflicts.count();
+
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+            () -> approvalService.approve(savedObservation.getId(), null));
+        assertEquals(before + 1, conflicts.count());
     }
 
     @Test
@@ -0,0 +1,79 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.dto.ImportProgress;
+import com.example.cosmiccatalog.event.ImportProgressedEvent;
+import com.example.cosmiccatalog.event.ObservationsImportedEvent;
+import com.example.cosmiccatalog.event.TargetsChangedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CatalogCountsTest {
+
+    private final ObservationRepository observationRepository = mock(ObservationRepository.class);
+    private final TargetRepository targetRepository = mock(TargetRepository.class);
+    private final ImportBatchRepository importBatchRepository = mock(ImportBatchRepository.class);
+    private final CatalogCounts counts = new CatalogCounts(observationRepository, targetRepository, importBatchRepository);
+
+    @Test
+    void testEventsMoveCountsWithoutQueries() {
+        when(observationRepository.count()).thenReturn(100L);
+        when(targetRepository.count()).thenReturn(5L);
+        counts.reconcile();
+
+        counts.onObservationsImported(new ObservationsImportedEvent(40, 0));
+        counts.onTargetsChanged(new TargetsChangedEvent(-1));
+
+        var current = counts.current();
+        assertEquals(140, current.observations());
+        assertEquals(4, current.targets());
+        verify(observationRepository).count();
+    }
+
+    @Test
+    void testReconcileKeepsChangesCommittedWhileCounting() {
+        when(targetRepository.count()).thenReturn(0L);
+        when(observationRepository.count()).thenAnswer(invocation -> {
+            // Commits after the count query's snapshot, so it is not in the result
+            counts.onObservationsImported(new ObservationsImportedEvent(7, 0));
+            return 50L;
+        });
+
+        var exact = counts.reconcile();
+
+        assertEquals(50, exact.observations());
+        assertEquals(57, counts.current().observations());
+    }
+
+    @Test
+    void testImportCompletionsMoveLastImportWithoutQueries() {
+        var reconciled = LocalDateTime.of(2025, 1, 1, 12, 0);
+        var batch = new ImportBatch();
+        batch.setCompletedAt(reconciled);
+        when(importBatchRepository.findTopByStatusOrderByCompletedAtDesc(ImportBatch.Status.SUCCEEDED)).thenReturn(Optional.of(batch));
+        counts.reconcile();
+
+        counts.onImportProgressed(progress(ImportBatch.Status.RUNNING, null));
+        counts.onImportProgressed(progress(ImportBatch.Status.FAILED, reconciled.plusHours(2)));
+        assertEquals(reconciled, counts.current().lastImport());
+        counts.onImportProgressed(progress(ImportBatch.Status.SUCCEEDED, reconciled.plusHours(1)));
+        counts.onImportProgressed(progress(ImportBatch.Status.SUCCEEDED, reconciled.minusHours(1)));
+
+        assertEquals(reconciled.plusHours(1), counts.current().lastImport());
+        verify(importBatchRepository, times(1)).findTopByStatusOrderByCompletedAtDesc(ImportBatch.Status.SUCCEEDED);
+    }
+
+    private static ImportProgressedEvent progress(ImportBatch.Status status, LocalDateTime completedAt) {
+        var batch = new ImportBatch();
+        batch.setStatus(status);
+        batch.setCompletedAt(completedAt);
+        return new ImportProgressedEvent(ImportProgress.from(batch));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.exception.TooManySubscribersException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CatalogEventStreamTest {
+
+    @Test
+    void testFullBufferDropsAndReportsCount() throws Exception {
+        var buffer = new CatalogEventStream.SubscriberBuffer(2);
+
+        assertTrue(buffer.offer(event(1, null)));
+        assertTrue(buffer.offer(event(2, null)));
+        assertFalse(buffer.offer(event(3, null)));
+
+        var batch = buffer.drain(Duration.ZERO);
+        assertEquals(List.of(1L, 2L), batch.events().stream().map(CatalogEventStream.FeedEvent::id).toList());
+        assertEquals(1, batch.dropped());
+        assertTrue(buffer.drain(Duration.ZERO).isEmpty());
+    }
+
+    @Test
+    void testProgressOfOneImportIsCoalesced() throws Exception {
+        var buffer = new CatalogEventStream.SubscriberBuffer(2);
+
+        buffer.offer(event(1, "import:7"));
+        buffer.offer(event(2, null));
+        // Replaces the waiting progress event instead of taking a slot, and moves behind event 2
+        assertTrue(buffer.offer(event(3, "import:7")));
+
+        var batch = buffer.drain(Duration.ZERO);
+        assertEquals(List.of(2L, 3L), batch.events().stream().map(CatalogEventStream.FeedEvent::id).toList());
+        assertEquals(0, batch.dropped());
+    }
+
+    @Test
+    void testConcurrentSubscribesNeverExceedTheCap() throws Exception {
+        var stream = new CatalogEventStream(new ObjectMapper(), 8, Duration.ofMinutes(1), Duration.ofMinutes(1),
+                3, new SimpleMeterRegistry());
+        var start = new CountDownLatch(1);
+        var accepted = new AtomicInteger();
+        var rejected = new AtomicInteger();
+
+        try (var executor = Executors.newFixedThreadPool(16)) {
+            for (var i = 0; i < 16; i++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                        stream.subscribe(Set.of());
+                        accepted.incrementAndGet();
+                    } catch (TooManySubscribersException e) {
+                        rejected.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            start.countDown();
+        }
+
+        assertEquals(3, accepted.get());
+        assertEquals(13, rejected.get());
+        assertEquals(3, stream.subscriberCount());
+
+        // Closing frees the slots
+        stream.closeAll();
+        stream.subscribe(Set.of());
+        assertEquals(1, stream.subscriberCount());
+        stream.closeAll();
+    }
+
+    private static CatalogEventStream.FeedEvent event(long id, String coalesceKey) {
+        return new CatalogEventStream.FeedEvent(id, "import", "{}", coalesceKey);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.cosmiccatalog;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -22,7 +23,7 @@ public class DeDupServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        deDupService = new DeDupServiceImpl(observationRepository);
+        deDupService = new DeDupServiceImpl(observationRepository, new SimpleMeterRegistry());
     }
 
     @Test
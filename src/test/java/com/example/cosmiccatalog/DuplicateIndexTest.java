@@ -0,0 +1,68 @@
+package com.example.cosmiccatalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.cosmiccatalog.TestObservations.inGroup;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DuplicateIndexTest {
+
+    private static final double ARCSEC = 1.0 / 3600.0;
+
+    private final List<DuplicateIndex.Key> loadedKeys = new ArrayList<>();
+
+    @Test
+    void testFindsCatalogDuplicateAcrossCellBoundary() {
+        // 10.0 degrees is an exact cell edge; the catalog row sits just below it
+        var index = indexWithCatalog(inGroup("JWST", "Carina", "F200W", 10.0 - ARCSEC, -59.0));
+
+        assertTrue(index.isDuplicate(inGroup("JWST", "Carina", "F200W", 10.0 + 2 * ARCSEC, -59.0 + ARCSEC)));
+        assertFalse(index.isDuplicate(inGroup("JWST", "Carina", "F200W", 10.0 + 10 * ARCSEC, -59.0)));
+    }
+
+    @Test
+    void testDifferentGroupIsNeverADuplicate() {
+        var index = indexWithCatalog(inGroup("JWST", "Carina", "F200W", 10.0, -59.0));
+
+        assertFalse(index.isDuplicate(inGroup("JWST", "Carina", "F444W", 10.0, -59.0)));
+        assertFalse(index.isDuplicate(inGroup("HST", "Carina", "F200W", 10.0, -59.0)));
+    }
+
+    @Test
+    void testCatchesDuplicatesAddedDuringImport() {
+        var index = indexWithCatalog();
+        var first = inGroup("JWST", "Carina", "F200W", 10.0, -59.0);
+
+        assertFalse(index.isDuplicate(first));
+        index.add(first);
+
+        assertTrue(index.isDuplicate(inGroup("JWST", "Carina", "F200W", 10.0 + ARCSEC, -59.0)));
+    }
+
+    @Test
+    void testLoadsEachGroupFromCatalogOnlyOnce() {
+        var index = indexWithCatalog();
+
+        for (var i = 0; i < 100; i++) {
+            index.isDuplicate(inGroup("JWST", "Carina", "F200W", 10.0 + i, -59.0));
+        }
+        index.isDuplicate(inGroup("JWST", "Orion", "F200W", 83.8, -5.4));
+
+        assertEquals(2, loadedKeys.size());
+    }
+
+    private DuplicateIndex indexWithCatalog(Observation... catalog) {
+        return new DuplicateIndex(key -> {
+            loadedKeys.add(key);
+            return List.of(catalog).stream()
+                    .filter(o -> DuplicateIndex.Key.of(o).equals(key))
+                    .map(o -> new DuplicateIndex.Position(o.getRa(), o.getDec()))
+                    .toList();
+        });
+    }
+}
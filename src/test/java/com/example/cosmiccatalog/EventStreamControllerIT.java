@@ -0,0 +1,80 @@
+package com.example.cosmiccatalog;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class EventStreamControllerIT {
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    TestRestTemplate rest;
+
+    @Autowired
+    ObservationRepository observationRepository;
+
+    @Autowired
+    ObservationService observationService;
+
+    @BeforeEach
+    void clean() {
+        observationRepository.deleteAll();
+    }
+
+    @Test
+    void approvalIsPushedToSubscribers() throws Exception {
+        Observation obs = new Observation();
+        obs.setTelescope("JWST");
+        obs.setTargetName("Pillars");
+        obs.setFilters("F200W");
+        obs.setRa(274.7); obs.setDec(-13.8);
+        obs.setObsDate(LocalDateTime.now().minusDays(10));
+        obs.setInstrument("NIRCam");
+        obs.setExposureSec(700);
+        Observation saved = observationService.saveWithScore(obs);
+
+        var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/events?types=approved")).build();
+        var response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofLines());
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/event-stream"));
+
+        try (var lines = response.body()) {
+            String approveUrl = "http://localhost:" + port + "/api/observations/" + saved.getId() + "/approve";
+            assertEquals(200, rest.postForEntity(approveUrl, null, String.class).getStatusCode().value());
+
+            var received = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                var it = lines.iterator();
+                while (!it.next().equals("event:approved")) {
+                    // skip until the approval
+                }
+                return it.next();
+            });
+            assertTrue(received.startsWith("data:"));
+            assertTrue(received.contains("\"id\":" + saved.getId()));
+            assertTrue(received.contains("\"status\":\"APPROVED\""));
+        }
+    }
+
+    @Test
+    void unknownEventTypeIsRejected() {
+        var response = rest.getForEntity("http://localhost:" + port + "/api/events?types=everything", String.class);
+        assertEquals(400, response.getStatusCode().value());
+    }
+}
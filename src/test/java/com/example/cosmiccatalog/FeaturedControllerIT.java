@@ -8,12 +8,23 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -124,4 +135,148 @@ class FeaturedControllerIT {
         assertEquals(o1.getId(), list.get(0).id());
         assertEquals(o2.getId(), list.get(1).id());
     }
+
+    @Test
+    void approvalShowsUpInFeaturedWithoutEviction() {
+        Observation obs = new Observation();
+        obs.setTelescope("JWST");
+        obs.setTargetName("Pillars");
+        obs.setFilters("F200W");
+        obs.setRa(274.7); obs.setDec(-13.8);
+        obs.setObsDate(LocalDateTime.now().minusDays(10));
+        obs.setInstrument("NIRCam");
+        obs.setExposureSec(700);
+        obs.setStatus(Observation.Status.PENDING);
+        Observation saved = observationService.saveWithScore(obs);
+
+        String featuredUrl = "http://localhost:" + port + "/api/featured?limit=5";
+        ParameterizedTypeReference<List<ObservationDTO>> type = new ParameterizedTypeReference<>() {};
+        assertEquals(0, rest.exchange(featuredUrl, HttpMethod.GET, null, type).getBody().size());
+
+        String approveUrl = "http://localhost:" + port + "/api/observations/" + saved.getId() + "/approve";
+        assertEquals(200, rest.postForEntity(approveUrl, null, String.class).getStatusCode().value());
+
+        List<ObservationDTO> list = rest.exchange(featuredUrl, HttpMethod.GET, null, type).getBody();
+        assertNotNull(list);
+        assertEquals(1, list.size());
+        assertEquals(saved.getId(), list.get(0).id());
+        assertEquals(Observation.Status.APPROVED, list.get(0).status());
+    }
+
+    @Test
+    void bulkApprovalShowsUpInFeaturedAfterOneRequest() {
+        var ids = new ArrayList<Long>();
+        for (int i = 0; i < 3; i++) {
+            Observation obs = new Observation();
+            obs.setTelescope("JWST");
+            obs.setTargetName("Carina " + i);
+            obs.setFilters("F200W");
+            obs.setRa(161.3 + i); obs.setDec(-59.9);
+            obs.setObsDate(LocalDateTime.now().minusDays(10));
+            obs.setInstrument("NIRCam");
+            obs.setExposureSec(700);
+            ids.add(observationService.saveWithScore(obs).getId());
+        }
+
+        var body = ids.stream().map(id -> Map.of("id", id)).toList();
+        var response = rest.postForEntity("http://localhost:" + port + "/api/observations/approve", body, String.class);
+        assertEquals(200, response.getStatusCode().value());
+
+        String featuredUrl = "http://localhost:" + port + "/api/featured?limit=5";
+        ParameterizedTypeReference<List<ObservationDTO>> type = new ParameterizedTypeReference<>() {};
+        List<ObservationDTO> list = rest.exchange(featuredUrl, HttpMethod.GET, null, type).getBody();
+        assertNotNull(list);
+        assertEquals(3, list.size());
+        assertTrue(list.stream().allMatch(o -> o.status() == Observation.Status.APPROVED && o.version() == 1));
+    }
+
+    @Test
+    void unchangedFeaturedPollIsNotModifiedUntilAnApproval() {
+        Observation obs = new Observation();
+        obs.setTelescope("JWST");
+        obs.setTargetName("Crab");
+        obs.setFilters("F200W");
+        obs.setRa(83.6); obs.setDec(22.0);
+        obs.setObsDate(LocalDateTime.now().minusDays(10));
+        obs.setInstrument("NIRCam");
+        obs.setExposureSec(700);
+        Observation saved = observationService.saveWithScore(obs);
+
+        String featuredUrl = "http://localhost:" + port + "/api/featured?limit=5";
+        var first = rest.getForEntity(featuredUrl, String.class);
+        assertEquals(200, first.getStatusCode().value());
+        String etag = first.getHeaders().getETag();
+        assertNotNull(etag);
+
+        var unchanged = rest.exchange(featuredUrl, HttpMethod.GET, ifNoneMatch(etag), String.class);
+        assertEquals(304, unchanged.getStatusCode().value());
+        assertNull(unchanged.getBody());
+
+        String approveUrl = "http://localhost:" + port + "/api/observations/" + saved.getId() + "/approve";
+        assertEquals(200, rest.postForEntity(approveUrl, null, String.class).getStatusCode().value());
+
+        var changed = rest.exchange(featuredUrl, HttpMethod.GET, ifNoneMatch(etag), String.class);
+        assertEquals(200, changed.getStatusCode().value());
+        assertNotEquals(etag, changed.getHeaders().getETag());
+        assertTrue(changed.getBody().contains("\"id\":" + saved.getId()));
+    }
+
+    @Test
+    void observationListingIsNotModifiedUntilAWrite() {
+        String listUrl = "http://localhost:" + port + "/api/observations?size=5";
+        var first = rest.getForEntity(listUrl, String.class);
+        String etag = first.getHeaders().getETag();
+        assertNotNull(etag);
+        assertEquals(304, rest.exchange(listUrl, HttpMethod.GET, ifNoneMatch(etag), String.class).getStatusCode().value());
+
+        Observation obs = new Observation();
+        obs.setTelescope("HST");
+        obs.setTargetName("M31");
+        obs.setFilters("F606W");
+        obs.setRa(10.7); obs.setDec(41.3);
+        obs.setObsDate(LocalDateTime.now().minusDays(3));
+        obs.setInstrument("ACS");
+        obs.setExposureSec(300);
+        observationService.saveWithScore(obs);
+
+        assertEquals(200, rest.exchange(listUrl, HttpMethod.GET, ifNoneMatch(etag), String.class).getStatusCode().value());
+    }
+
+    @Test
+    void featuredIsSentGzippedToClientsThatAcceptIt() throws Exception {
+        for (int i = 0; i < 8; i++) {
+            Observation obs = new Observation();
+            obs.setTelescope("JWST");
+            obs.setTargetName("Orion " + i);
+            obs.setFilters("F200W");
+            obs.setRa(83.8 + i); obs.setDec(-5.4);
+            obs.setObsDate(LocalDateTime.now().minusDays(10));
+            obs.setInstrument("NIRCam");
+            obs.setExposureSec(700);
+            obs.setStatus(Observation.Status.APPROVED);
+            observationService.saveWithScore(obs);
+        }
+
+        var client = HttpClient.newHttpClient();
+        var uri = URI.create("http://localhost:" + port + "/api/featured?limit=8");
+        var plain = client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString());
+        var gzipped = client.send(HttpRequest.newBuilder(uri).header("Accept-Encoding", "gzip").build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals(200, gzipped.statusCode());
+        assertEquals("gzip", gzipped.headers().firstValue("Content-Encoding").orElse(null));
+        assertTrue(gzipped.headers().firstValue("Content-Type").orElse("").startsWith("application/json"));
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(gzipped.body()))) {
+            assertEquals(plain.body(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertTrue(plain.headers().firstValue("Content-Encoding").isEmpty());
+        assertEquals(8, rest.exchange(uri.toString(), HttpMethod.GET, null,
+                new ParameterizedTypeReference<List<ObservationDTO>>() {}).getBody().size());
+    }
+
+    private static HttpEntity<Void> ifNoneMatch(String etag) {
+        var headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        return new HttpEntity<>(headers);
+    }
 }
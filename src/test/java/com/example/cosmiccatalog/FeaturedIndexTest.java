@@ -0,0 +1,112 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.dto.ObservationDTO;
+import com.example.cosmiccatalog.event.ObservationChangedEvent;
+import com.example.cosmiccatalog.event.ObservationsRescoredEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.example.cosmiccatalog.TestObservations.scored;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FeaturedIndexTest {
+
+    private final List<Observation> approved = new ArrayList<>();
+    private ObservationRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ObservationRepository.class);
+        when(repository.findProjectedByStatus(eq(Observation.Status.APPROVED), any(Pageable.class))).thenAnswer(invocation -> {
+            Pageable pageable = invocation.getArgument(1);
+            return approved.stream()
+                    .sorted(Comparator.comparingInt(Observation::getScore).reversed().thenComparing(Observation::getId))
+                    .limit(pageable.getPageSize())
+                    .map(ObservationDTO::from)
+                    .toList();
+        });
+    }
+
+    @Test
+    void testApprovalIsAddedInPlace() {
+        approved.add(scored(1L, 50, Observation.Status.APPROVED));
+        var index = new FeaturedIndex(repository, 200);
+        index.reload();
+
+        index.onObservationChanged(saved(scored(2L, 80, Observation.Status.APPROVED)));
+        index.onObservationChanged(saved(scored(3L, 99, Observation.Status.PENDING)));
+
+        assertEquals(List.of(2L, 1L), ids(index.top(10)));
+        verify(repository, times(1)).findProjectedByStatus(any(), any());
+    }
+
+    @Test
+    void testRescoreReordersHeldEntries() {
+        approved.add(scored(1L, 50, Observation.Status.APPROVED));
+        approved.add(scored(2L, 40, Observation.Status.APPROVED));
+        var index = new FeaturedIndex(repository, 200);
+        index.reload();
+
+        index.onObservationsRescored(new ObservationsRescoredEvent(List.of(
+                new ObservationBatchWriter.ScoreUpdate(2L, 40, 42))));
+
+        var top = index.top(1);
+        assertEquals(2L, top.get(0).id());
+        assertTrue(top.get(0).hasDontPanicBadge());
+        verify(repository, times(1)).findProjectedByStatus(any(), any());
+    }
+
+    @Test
+    void testFullIndexOnlyAdmitsEntriesAboveItsLastEntry() {
+        for (long id = 1; id <= 4; id++) {
+            approved.add(scored(id, (int) (10 * id), Observation.Status.APPROVED));
+        }
+        var index = new FeaturedIndex(repository, 3);
+        index.reload();
+        assertEquals(List.of(4L, 3L, 2L), ids(index.top(10)));
+
+        // Ranks below the held prefix, where row 1 (not held) might outrank it
+        index.onObservationChanged(saved(scored(5L, 5, Observation.Status.APPROVED)));
+        assertEquals(List.of(4L, 3L, 2L), ids(index.top(10)));
+
+        index.onObservationChanged(saved(scored(6L, 35, Observation.Status.APPROVED)));
+        assertEquals(List.of(4L, 6L, 3L), ids(index.top(10)));
+        verify(repository, times(1)).findProjectedByStatus(any(), any());
+    }
+
+    @Test
+    void testRefillsFromDatabaseWhenHeldPrefixRunsShort() {
+        for (long id = 1; id <= 4; id++) {
+            approved.add(scored(id, (int) (10 * id), Observation.Status.APPROVED));
+        }
+        var index = new FeaturedIndex(repository, 3);
+        index.reload();
+
+        var removed = approved.remove(3);
+        index.onObservationChanged(new ObservationChangedEvent(ObservationDTO.from(removed),
+                ObservationChangedEvent.Change.DELETED));
+
+        assertEquals(List.of(3L, 2L, 1L), ids(index.top(10)));
+        verify(repository, times(2)).findProjectedByStatus(any(), any());
+    }
+
+    private static ObservationChangedEvent saved(Observation observation) {
+        return new ObservationChangedEvent(ObservationDTO.from(observation), ObservationChangedEvent.Change.UPDATED);
+    }
+
+    private static List<Long> ids(List<ObservationDTO> observations) {
+        return observations.stream().map(ObservationDTO::id).toList();
+    }
+}
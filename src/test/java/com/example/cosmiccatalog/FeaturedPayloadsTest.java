@@ -0,0 +1,85 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.dto.ObservationDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static com.example.cosmiccatalog.TestObservations.scored;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class FeaturedPayloadsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private FeaturedIndex featuredIndex;
+
+    @BeforeEach
+    void setUp() {
+        featuredIndex = mock(FeaturedIndex.class);
+    }
+
+    @Test
+    void testPayloadIsReusedWhileTheSnapshotIsCurrent() throws Exception {
+        var snapshot = Stream.of(scored(1L, 90, Observation.Status.APPROVED), scored(2L, 80, Observation.Status.APPROVED),
+                scored(3L, 70, Observation.Status.APPROVED)).map(ObservationDTO::from).toList();
+        when(featuredIndex.snapshot()).thenReturn(snapshot);
+        var registry = new SimpleMeterRegistry();
+        var payloads = new FeaturedPayloads(featuredIndex, objectMapper, 1024, registry);
+
+        var first = payloads.top(2);
+        assertSame(first, payloads.top(2));
+        assertArrayEquals(objectMapper.writeValueAsBytes(snapshot.subList(0, 2)), first.json());
+        assertEquals(1.0, registry.get("catalog.featured.payloads").tag("result", "hit").counter().count());
+
+        // A new snapshot, even with equal content, is encoded again
+        when(featuredIndex.snapshot()).thenReturn(List.copyOf(snapshot.subList(0, 1)));
+        var next = payloads.top(2);
+        assertNotSame(first, next);
+        assertArrayEquals(objectMapper.writeValueAsBytes(snapshot.subList(0, 1)), next.json());
+    }
+
+    @Test
+    void testOnlyLargePayloadsAreCompressed() throws Exception {
+        when(featuredIndex.snapshot()).thenReturn(Stream.of(scored(1L, 90, Observation.Status.APPROVED),
+                scored(2L, 80, Observation.Status.APPROVED)).map(ObservationDTO::from).toList());
+        var payloads = new FeaturedPayloads(featuredIndex, objectMapper, 300, new SimpleMeterRegistry());
+
+        var small = payloads.top(1);
+        assertTrue(small.json().length < 300);
+        assertNull(small.gzip());
+
+        var large = payloads.top(2);
+        assertTrue(large.json().length >= 300);
+        assertArrayEquals(large.json(), gunzip(large.gzip()));
+    }
+
+    @Test
+    void testAcceptEncodingParsing() {
+        assertTrue(FeaturedController.acceptsGzip("gzip, deflate, br"));
+        assertTrue(FeaturedController.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertFalse(FeaturedController.acceptsGzip("gzip;q=0"));
+        assertFalse(FeaturedController.acceptsGzip("identity"));
+        assertFalse(FeaturedController.acceptsGzip(null));
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (var in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+}
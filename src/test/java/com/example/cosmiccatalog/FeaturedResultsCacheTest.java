@@ -0,0 +1,111 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.dto.CacheRegionStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for the featured-results cache regions and their targeted eviction.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class FeaturedResultsCacheTest {
+
+    @Autowired
+    private ObservationService observationService;
+
+    @Autowired
+    private ObservationRepository observationRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private FeaturedResultsCache featuredResultsCache;
+
+    @Autowired
+    private CacheStatsController cacheStatsController;
+
+    @BeforeEach
+    void clean() {
+        observationRepository.deleteAll();
+        cacheManager.getCache(CacheConfig.TOP_SCORED).clear();
+    }
+
+    @Test
+    void testSecondReadIsAHit() {
+        save("CACHE-1", 80);
+        var before = topScoredStats();
+
+        observationService.getFeaturedObservations(3);
+        observationService.getFeaturedObservations(3);
+
+        var after = topScoredStats();
+        assertEquals(1, after.misses() - before.misses());
+        assertEquals(1, after.hits() - before.hits());
+    }
+
+    @Test
+    void testOnlyAffectedEntriesAreEvicted() {
+        var top = save("CACHE-1", 90);
+        save("CACHE-2", 80);
+        observationService.getFeaturedObservations(1);
+        var cache = cacheManager.getCache(CacheConfig.TOP_SCORED);
+        var key = new FeaturedResultsCache.TopScoredKey(1);
+
+        // Ranks below the cached top-1, so the entry stays
+        save("CACHE-3", 10);
+        assertNotNull(cache.get(key));
+
+        // Changes an observation in the entry
+        top.setStatus(Observation.Status.APPROVED);
+        observationRepository.save(top);
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    void testLoadRacingACommitIsNotKept() {
+        var cache = cacheManager.getCache(CacheConfig.TOP_SCORED);
+
+        // The commit and its eviction happen while the miss is still loading
+        var loaded = featuredResultsCache.topScored(1, () -> {
+            save("CACHE-1", 90);
+            return List.of();
+        });
+
+        assertTrue(loaded.isEmpty());
+        assertNull(cache.get(new FeaturedResultsCache.TopScoredKey(1)));
+    }
+
+    @Test
+    void testUnknownRegionIsNotCreated() {
+        assertNull(cacheManager.getCache("featured"));
+    }
+
+    private CacheRegionStats topScoredStats() {
+        return cacheStatsController.getStats().stream()
+                .filter(stats -> stats.region().equals(CacheConfig.TOP_SCORED))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private Observation save(String programId, int score) {
+        var observation = new Observation();
+        observation.setTelescope("JWST");
+        observation.setProgramId(programId);
+        observation.setTargetName("Target " + programId);
+        observation.setScore(score);
+        return observationRepository.save(observation);
+    }
+}
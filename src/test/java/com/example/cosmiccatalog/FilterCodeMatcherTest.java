@@ -0,0 +1,41 @@
+package com.example.cosmiccatalog;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FilterCodeMatcherTest {
+
+    private final FilterCodeMatcher matcher = FilterCodeMatcher.compile("F[1-4]##[WM]");
+
+    @Test
+    void testMatchesSameCodesAsLegacyRegex() {
+        var regex = ".*(F[1-4]\\d{2}[WM]).*";
+        var samples = new String[] {
+                "F200W", "F150M", "F444W", "F090W", "F770W", "F631N", "F200", "G395H",
+                "F090W+F150W", "PRISM/CLEAR", "CLEAR;F410M", "f200w", "FF200WW", ""
+        };
+
+        for (var sample : samples) {
+            if (sample.matches(regex)) {
+                assertTrue(matcher.matches(sample), sample);
+            } else {
+                assertFalse(matcher.matches(sample), sample);
+            }
+        }
+    }
+
+    @Test
+    void testNullNeverMatches() {
+        assertFalse(matcher.matches(null));
+    }
+
+    @Test
+    void testRejectsMalformedPatterns() {
+        assertThrows(IllegalArgumentException.class, () -> FilterCodeMatcher.compile(""));
+        assertThrows(IllegalArgumentException.class, () -> FilterCodeMatcher.compile("F[1-4"));
+        assertThrows(IllegalArgumentException.class, () -> FilterCodeMatcher.compile("F[]"));
+    }
+}
@@ -33,11 +33,16 @@ class HealthControllerIT {
     @Autowired
     ImportBatchRepository importBatchRepository;
 
+    @Autowired
+    CatalogCounts catalogCounts;
+
     @BeforeEach
     void clean() {
         observationRepository.deleteAll();
         targetRepository.deleteAll();
         importBatchRepository.deleteAll();
+        // Other test contexts may have written to the shared in-memory database
+        catalogCounts.reconcile();
     }
 
     @Test
@@ -84,6 +89,8 @@ class HealthControllerIT {
         ib.setDuplicateCount(0);
         ib.setStatus(ImportBatch.Status.SUCCEEDED);
         importBatchRepository.save(ib);
+        // Saved directly rather than by an import, so no completion event: picked up by reconciliation
+        catalogCounts.reconcile();
 
         var resp = rest.getForEntity("http://localhost:" + port + "/health", Map.class);
         assertEquals(200, resp.getStatusCode().value());
@@ -109,4 +116,40 @@ class HealthControllerIT {
         assertNotNull(body);
         assertNull(body.get("lastImport"));
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void healthCountsFollowWritesWithoutCountingRows() {
+        Observation o = new Observation();
+        o.setTelescope("HST");
+        o.setTargetName("M51");
+        o.setRa(202.5);
+        o.setDec(47.2);
+        observationRepository.save(o);
+
+        var resp = rest.getForEntity("http://localhost:" + port + "/health", Map.class);
+        Map<String, Object> counts = (Map<String, Object>) resp.getBody().get("counts");
+        assertEquals(1, ((Number) counts.get("obs")).intValue());
+        assertEquals(false, counts.get("exact"));
+        assertNotNull(counts.get("reconciledAt"));
+
+        observationRepository.delete(o);
+        resp = rest.getForEntity("http://localhost:" + port + "/health", Map.class);
+        counts = (Map<String, Object>) resp.getBody().get("counts");
+        assertEquals(0, ((Number) counts.get("obs")).intValue());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void healthExactCountsRows() {
+        Target t = new Target();
+        t.setName("Orion");
+        targetRepository.save(t);
+
+        var resp = rest.getForEntity("http://localhost:" + port + "/health?exact=true", Map.class);
+        assertEquals(200, resp.getStatusCode().value());
+        Map<String, Object> counts = (Map<String, Object>) resp.getBody().get("counts");
+        assertEquals(1, ((Number) counts.get("targets")).intValue());
+        assertEquals(true, counts.get("exact"));
+    }
 }
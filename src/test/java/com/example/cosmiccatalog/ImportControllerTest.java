@@ -1,18 +1,37 @@
 package com.example.cosmiccatalog;
 
 import com.example.cosmiccatalog.dto.ImportSummary;
+import com.example.cosmiccatalog.exception.EntityNotFoundException;
+import com.example.cosmiccatalog.exception.ImportNotResumableException;
+import com.example.cosmiccatalog.exception.InvalidImportSourceException;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
 import java.time.LocalDateTime;
 
 import static org.mockito.Mockito.when;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -99,4 +118,174 @@ class ImportControllerTest {
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isInternalServerError());
     }
+
+    @Test
+    void testStartImportReturnsJobId() throws Exception {
+        var batch = new ImportBatch();
+        batch.setId(7L);
+        batch.setSource("data/realistic_jwst.json");
+        batch.setStartedAt(LocalDateTime.now());
+        batch.setStatus(ImportBatch.Status.RUNNING);
+        when(importService.startImport("data/realistic_jwst.json")).thenReturn(batch);
+
+        mockMvc.perform(post("/api/import").param("source", "data/realistic_jwst.json"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value(7))
+                .andExpect(jsonPath("$.status").value("RUNNING"));
+
+        verify(importService).startImport("data/realistic_jwst.json");
+    }
+
+    @Test
+    void testFullImportQueueIsServiceUnavailable() throws Exception {
+        when(importService.startImport("data/realistic_jwst.json"))
+                .thenThrow(new TaskRejectedException("Executor [import] did not accept task"));
+
+        mockMvc.perform(post("/api/import").param("source", "data/realistic_jwst.json"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "30"))
+                .andExpect(jsonPath("$.error").value("UNAVAILABLE"))
+                .andExpect(jsonPath("$.message").value("Import queue is full, retry later"));
+    }
+
+    @Test
+    void testPoolExhaustionHidesConnectionDetails() throws Exception {
+        when(importService.getImportBatch(7L)).thenThrow(new CannotCreateTransactionException(
+                "Could not open JPA EntityManager for transaction", new SQLTransientConnectionException(
+                        "HikariPool-1 - Connection is not available, request timed out after 5000ms")));
+
+        mockMvc.perform(get("/api/import/7"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.error").value("UNAVAILABLE"))
+                .andExpect(jsonPath("$.message").value("Database busy, retry shortly"));
+    }
+
+    @Test
+    void testOtherTransactionFailuresAreInternalErrors() throws Exception {
+        when(importService.getImportBatch(7L)).thenThrow(new CannotCreateTransactionException(
+                "Could not open JPA EntityManager for transaction", new SQLException("Database is closed")));
+
+        mockMvc.perform(get("/api/import/7"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.error").value("INTERNAL_ERROR"));
+    }
+
+    @Test
+    void testOptimisticLockFailureIsVersionConflict() throws Exception {
+        when(importService.getImportBatch(7L)).thenThrow(
+                new ObjectOptimisticLockingFailureException(Observation.class, 7L));
+
+        mockMvc.perform(get("/api/import/7"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("VERSION_CONFLICT"));
+    }
+
+    @Test
+    void testStartImportRejectsSourceOutsideDataDirectory() throws Exception {
+        mockMvc.perform(post("/api/import").param("source", "../application.properties"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(importService);
+    }
+
+    @Test
+    void testGetImportProgress() throws Exception {
+        var batch = new ImportBatch();
+        batch.setId(7L);
+        batch.setStatus(ImportBatch.Status.FAILED);
+        batch.setTotalRows(1000);
+        batch.setNotes("Failed after 1000 rows: bad JSON");
+        when(importService.getImportBatch(7L)).thenReturn(batch);
+
+        mockMvc.perform(get("/api/import/7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("FAILED"))
+                .andExpect(jsonPath("$.rowsParsed").value(1000))
+                .andExpect(jsonPath("$.notes").value("Failed after 1000 rows: bad JSON"));
+    }
+
+    @Test
+    void testGetUnknownImportReturnsNotFound() throws Exception {
+        when(importService.getImportBatch(99L)).thenThrow(new EntityNotFoundException("ImportBatch", 99L));
+
+        mockMvc.perform(get("/api/import/99"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testUploadMultipartFileStartsBackgroundImport() throws Exception {
+        var batch = new ImportBatch();
+        batch.setId(12L);
+        batch.setSource("upload:survey.ndjson");
+        batch.setStatus(ImportBatch.Status.RUNNING);
+        when(importService.startUpload(any(MultipartFile.class))).thenReturn(batch);
+
+        var file = new MockMultipartFile("file", "survey.ndjson", NdjsonObservationFormat.MEDIA_TYPE,
+                "{\"telescope\": \"JWST\"}\n".getBytes(StandardCharsets.UTF_8));
+        mockMvc.perform(multipart("/api/import/upload").file(file))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value(12))
+                .andExpect(jsonPath("$.status").value("RUNNING"));
+
+        var part = ArgumentCaptor.forClass(MultipartFile.class);
+        verify(importService).startUpload(part.capture());
+        assertEquals("survey.ndjson", part.getValue().getOriginalFilename());
+        assertEquals(NdjsonObservationFormat.MEDIA_TYPE, part.getValue().getContentType());
+    }
+
+    @Test
+    void testUploadRawNdjsonBody() throws Exception {
+        when(importService.importStream(any(ImportSource.class))).thenReturn(finishedBatch(13L, "upload:body"));
+
+        mockMvc.perform(post("/api/import/upload")
+                .contentType(NdjsonObservationFormat.MEDIA_TYPE)
+                .content("{\"telescope\": \"JWST\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(13));
+
+        var source = ArgumentCaptor.forClass(ImportSource.class);
+        verify(importService).importStream(source.capture());
+        assertTrue(source.getValue().contentType().startsWith(NdjsonObservationFormat.MEDIA_TYPE));
+    }
+
+    @Test
+    void testStartFileImportRejectsInvalidPath() throws Exception {
+        when(importService.startFileImport("../etc/passwd"))
+                .thenThrow(new InvalidImportSourceException("../etc/passwd is not a readable file in the import directory"));
+
+        mockMvc.perform(post("/api/import/file").param("path", "../etc/passwd"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("VALIDATION_ERROR"));
+    }
+
+    @Test
+    void testResumeImport() throws Exception {
+        var batch = new ImportBatch();
+        batch.setId(7L);
+        batch.setStatus(ImportBatch.Status.RUNNING);
+        batch.setCheckpointRow(4000);
+        when(importService.resumeImport(7L)).thenReturn(batch);
+
+        mockMvc.perform(post("/api/import/7/resume"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.checkpointRow").value(4000));
+    }
+
+    @Test
+    void testResumeSucceededImportIsConflict() throws Exception {
+        when(importService.resumeImport(7L)).thenThrow(new ImportNotResumableException(7L, "it has already succeeded"));
+
+        mockMvc.perform(post("/api/import/7/resume"))
+                .andExpect(status().isConflict());
+    }
+
+    private static ImportBatch finishedBatch(Long id, String source) {
+        var batch = new ImportBatch();
+        batch.setId(id);
+        batch.setSource(source);
+        batch.setStatus(ImportBatch.Status.SUCCEEDED);
+        batch.setImportedCount(1);
+        return batch;
+    }
 }
@@ -0,0 +1,177 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.dto.ImportStageStats;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ImportPipelineTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private final List<Observation> written = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void testScoresDedupsAndWritesEveryRow() throws Exception {
+        // 200 distinct targets, each listed twice at the same position
+        var pipeline = pipeline(new ImportPipeline.Settings(7, 3, 4, 2, 1), batch -> {
+            written.addAll(batch);
+            return batch.size();
+        });
+
+        var result = pipeline.run(reader(200, 2), 0, progress -> { });
+
+        assertEquals(400, result.parsed());
+        assertEquals(200, result.duplicates());
+        assertEquals(200, result.imported());
+        assertEquals(400, result.checkpoint());
+        assertEquals(200, written.size());
+        assertEquals(200, written.stream().map(Observation::getTargetName).distinct().count());
+        assertTrue(written.stream().allMatch(o -> o.getScore() > 0));
+    }
+
+    @Test
+    void testVirtualThreadsRunTheWritersButNotScoring() throws Exception {
+        var scoringThreads = Collections.synchronizedSet(new HashSet<Boolean>());
+        var writerThreads = Collections.synchronizedSet(new HashSet<Boolean>());
+        var scoringService = new ScoringServiceImpl() {
+            @Override
+            public void scoreBatch(List<Observation> observations) {
+                scoringThreads.add(Thread.currentThread().isVirtual());
+                super.scoreBatch(observations);
+            }
+        };
+        var pipeline = new ImportPipeline(new ImportPipeline.Settings(7, 2, 2, 2, 1, true), scoringService,
+                () -> new DuplicateIndex(key -> List.of()), batch -> {
+                    writerThreads.add(Thread.currentThread().isVirtual());
+                    return batch.size();
+                });
+
+        var result = pipeline.run(reader(100, 2), 0, progress -> { });
+
+        assertEquals(100, result.imported());
+        assertEquals(100, result.duplicates());
+        assertEquals(200, result.checkpoint());
+        assertEquals(Set.of(false), scoringThreads);
+        assertEquals(Set.of(true), writerThreads);
+    }
+
+    @Test
+    void testSettingsRejectSizesBelowOne() {
+        assertThrows(IllegalArgumentException.class, () -> new ImportPipeline.Settings(10, 2, 0, 1, 2));
+        assertThrows(IllegalArgumentException.class, () -> new ImportPipeline.Settings(10, 2, 2, 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> new ImportPipeline.Settings(10, 2, 2, 1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ImportPipeline.Settings(0, 2, 2, 1, 2));
+    }
+
+    @Test
+    void testReportsPerStageCounters() throws Exception {
+        var pipeline = pipeline(new ImportPipeline.Settings(10, 2, 2, 1, 2), List::size);
+
+        pipeline.run(reader(50, 1), 0, progress -> { });
+
+        var stats = pipeline.stats();
+        assertEquals(List.of("parse", "score", "dedup", "write"), stats.stream().map(ImportStageStats::stage).toList());
+        assertTrue(stats.stream().allMatch(s -> s.rows() == 50));
+    }
+
+    @Test
+    void testPublishesStageMeters() throws Exception {
+        var meterRegistry = new SimpleMeterRegistry();
+        var pipeline = new ImportPipeline(new ImportPipeline.Settings(10, 2, 2, 1, 2), new ScoringServiceImpl(),
+                () -> new DuplicateIndex(key -> List.of()), List::size, meterRegistry);
+
+        pipeline.run(reader(30, 2), 0, progress -> { });
+
+        for (var stage : List.of("parse", "score", "dedup")) {
+            assertEquals(60, meterRegistry.get("catalog.import.rows").tag("stage", stage).counter().count());
+            assertTrue(meterRegistry.get("catalog.import.stage").tag("stage", stage).timer().count() > 0);
+        }
+        assertEquals(30, meterRegistry.get("catalog.import.rows").tag("stage", "write").counter().count());
+        assertEquals(30, meterRegistry.get("catalog.import.duplicates").counter().count());
+    }
+
+    @Test
+    void testWriterFailureStopsPipelineAndPropagates() {
+        var pipeline = pipeline(new ImportPipeline.Settings(5, 2, 2, 2, 1), batch -> {
+            throw new IllegalStateException("disk full");
+        });
+
+        var error = assertThrows(IllegalStateException.class, () -> pipeline.run(reader(500, 1), 0, progress -> { }));
+        assertEquals("disk full", error.getMessage());
+    }
+
+    @Test
+    void testSkipsRowsBeforeCheckpoint() throws Exception {
+        var pipeline = pipeline(new ImportPipeline.Settings(10, 2, 2, 1, 2), batch -> {
+            written.addAll(batch);
+            return batch.size();
+        });
+
+        var result = pipeline.run(reader(100, 1), 35, progress -> { });
+
+        assertEquals(65, result.parsed());
+        assertEquals(65, result.imported());
+        assertTrue(written.stream().noneMatch(o -> o.getProgramId().equals("P-34")));
+        assertTrue(written.stream().anyMatch(o -> o.getProgramId().equals("P-35")));
+    }
+
+    @Test
+    void testCheckpointOnlyCoversCommittedRows() {
+        // Writers commit out of order and fail part way through
+        var pipeline = pipeline(new ImportPipeline.Settings(5, 3, 4, 3, 2), batch -> {
+            synchronized (written) {
+                if (written.size() >= 120) {
+                    throw new IllegalStateException("connection lost");
+                }
+                written.addAll(batch);
+            }
+            return batch.size();
+        });
+        var checkpoints = Collections.synchronizedList(new ArrayList<ImportPipeline.Progress>());
+
+        assertThrows(IllegalStateException.class, () -> pipeline.run(reader(300, 1), 0, checkpoints::add));
+
+        var writtenIds = written.stream().map(Observation::getProgramId).collect(Collectors.toSet());
+        for (var progress : checkpoints) {
+            assertTrue(progress.checkpoint() <= writtenIds.size());
+            for (var i = 0; i < progress.checkpoint(); i++) {
+                assertTrue(writtenIds.contains("P-" + i), "row " + i + " is before the checkpoint but not written");
+            }
+        }
+    }
+
+    private ImportPipeline pipeline(ImportPipeline.Settings settings,
+                                    ToIntFunction<List<Observation>> writer) {
+        return new ImportPipeline(settings, new ScoringServiceImpl(), () -> new DuplicateIndex(key -> List.of()), writer);
+    }
+
+    private ObservationReader reader(int targets, int copies) {
+        var json = new StringJoiner(",", "[", "]");
+        for (var copy = 0; copy < copies; copy++) {
+            for (var i = 0; i < targets; i++) {
+                json.add("""
+                        {"telescope": "JWST", "programId": "P-%d", "targetName": "Target %d", "ra": %d.5, "dec": -10.0,
+                         "instrument": "NIRCam", "filters": "F200W", "exposureSec": 1000}
+                        """.formatted(i, i, i % 360));
+            }
+        }
+        return new ObservationJsonStreamReader(objectMapper,
+                new ByteArrayInputStream(json.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.exception.ImportNotResumableException;
+import com.example.cosmiccatalog.exception.InvalidImportSourceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration tests for chunked imports, using a chunk size small enough to span several chunks
+ * and the test data directory as the server-side import directory.
+ */
+@SpringBootTest(properties = {"app.import.chunk-size=2", "app.rescore.chunk-size=2",
+        "app.import.base-dir=src/test/resources/data"})
+@ActiveProfiles("test")
+class ImportServiceTest {
+
+    @Autowired
+    private ImportService importService;
+
+    @Autowired
+    private ObservationRepository observationRepository;
+
+    @Autowired
+    private ImportBatchRepository importBatchRepository;
+
+    @BeforeEach
+    void clean() {
+        observationRepository.deleteAll();
+        importBatchRepository.deleteAll();
+    }
+
+    @Test
+    void testImportScoresAndPersistsAllRows() throws Exception {
+        var summary = importService.importSampleData();
+
+        assertEquals(5, summary.totalProcessed());
+        assertEquals(5, summary.imported());
+        assertEquals(0, summary.duplicatesFound());
+        assertEquals(5, observationRepository.count());
+        assertTrue(observationRepository.findAll().stream()
+                .allMatch(o -> o.getStatus() == Observation.Status.PENDING && o.getScore() > 0));
+    }
+
+    @Test
+    void testReimportSkipsExistingRows() throws Exception {
+        importService.importSampleData();
+        var summary = importService.importSampleData();
+
+        assertEquals(5, summary.duplicatesFound());
+        assertEquals(0, summary.imported());
+        assertEquals(5, observationRepository.count());
+    }
+
+    @Test
+    void testDuplicatesWithinAndAcrossChunksAreSkipped() throws Exception {
+        var summary = importService.importFromFile("data/dedup_sample.json");
+
+        assertEquals(5, summary.totalProcessed());
+        assertEquals(3, summary.imported());
+        assertEquals(2, summary.duplicatesFound());
+        assertEquals(3, observationRepository.count());
+    }
+
+    @Test
+    void testStartImportRunsInBackgroundAndRecordsProgress() throws Exception {
+        var batch = importService.startImport("data/jwst_sample.json");
+        assertEquals(ImportBatch.Status.RUNNING, batch.getStatus());
+
+        var finished = awaitCompletion(batch.getId());
+        assertEquals(ImportBatch.Status.SUCCEEDED, finished.getStatus());
+        assertEquals(5, finished.getTotalRows());
+        assertEquals(5, finished.getImportedCount());
+        assertTrue(finished.getRowsPerSecond() > 0);
+    }
+
+    @Test
+    void testFailedImportIsMarkedFailedWithError() throws Exception {
+        var batch = importService.startImport("data/missing.json");
+
+        var finished = awaitCompletion(batch.getId());
+        assertEquals(ImportBatch.Status.FAILED, finished.getStatus());
+        assertTrue(finished.getNotes().contains("missing.json"));
+    }
+
+    @Test
+    void testSynchronousImportRethrowsAfterMarkingFailed() {
+        assertThrows(FileNotFoundException.class, () -> importService.importFromFile("data/missing.json"));
+
+        var batch = importBatchRepository.findAll().get(0);
+        assertEquals(ImportBatch.Status.FAILED, batch.getStatus());
+    }
+
+    @Test
+    void testImportsNdjsonStream() throws Exception {
+        var ndjson = """
+                {"telescope": "JWST", "programId": "ND-1", "targetName": "Carina", "ra": 161.2675, "dec": -59.8675, "exposureSec": 1200}
+
+                {"telescope": "JWST", "programId": "ND-2", "targetName": "Quintet", "ra": 339.0146, "dec": 33.9608, "exposureSec": 400}
+                """;
+        var source = ImportSource.upload(null, NdjsonObservationFormat.MEDIA_TYPE,
+                () -> new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        var batch = importService.importStream(source);
+
+        assertEquals(ImportBatch.Status.SUCCEEDED, batch.getStatus());
+        assertEquals(2, batch.getImportedCount());
+        assertEquals(2, observationRepository.count());
+    }
+
+    @Test
+    void testImportsCsvStream() throws Exception {
+        var csv = """
+                telescope,program_id,target_name,ra,dec,obs_date,instrument,filters,exposure_sec
+                JWST,CSV-1,"Carina, west",161.2675,-59.8675,2024-03-15,NIRCam,F200W,1200
+                HST,CSV-2,Pillars,274.7,-13.8167,,WFC3,F656N,600
+                """;
+        var source = ImportSource.upload("survey.csv", null,
+                () -> new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        var batch = importService.importStream(source);
+
+        assertEquals(ImportBatch.Status.SUCCEEDED, batch.getStatus());
+        assertEquals(2, batch.getImportedCount());
+        assertTrue(observationRepository.findAll().stream().anyMatch(o -> o.getTargetName().equals("Carina, west")));
+    }
+
+    @Test
+    void testStartFileImportReadsFromImportDirectory() throws Exception {
+        var batch = importService.startFileImport("dedup_sample.json");
+
+        var finished = awaitCompletion(batch.getId());
+        assertEquals(ImportBatch.Status.SUCCEEDED, finished.getStatus());
+        assertEquals(3, finished.getImportedCount());
+        assertEquals(2, finished.getDuplicateCount());
+    }
+
+    @Test
+    void testStartUploadImportsSpooledPartInBackground() throws Exception {
+        var ndjson = """
+                {"telescope": "JWST", "programId": "UP-1", "targetName": "Carina", "ra": 161.2675, "dec": -59.8675, "exposureSec": 1200}
+                {"telescope": "JWST", "programId": "UP-2", "targetName": "Quintet", "ra": 339.0146, "dec": 33.9608, "exposureSec": 400}
+                """;
+        var file = new MockMultipartFile("file", "survey.ndjson", NdjsonObservationFormat.MEDIA_TYPE,
+                ndjson.getBytes(StandardCharsets.UTF_8));
+
+        var batch = importService.startUpload(file);
+        assertEquals("upload:survey.ndjson", batch.getSource());
+
+        var finished = awaitCompletion(batch.getId());
+        assertEquals(ImportBatch.Status.SUCCEEDED, finished.getStatus());
+        assertEquals(2, finished.getImportedCount());
+        assertThrows(ImportNotResumableException.class, () -> importService.resumeImport(batch.getId()));
+    }
+
+    @Test
+    void testStartFileImportRejectsPathsOutsideImportDirectory() {
+        assertThrows(InvalidImportSourceException.class, () -> importService.startFileImport("../application-test.properties"));
+        assertThrows(InvalidImportSourceException.class, () -> importService.startFileImport("missing.json"));
+    }
+
+    @Test
+    void testCompletedImportCheckpointsEveryRow() throws Exception {
+        importService.importFromFile("data/dedup_sample.json");
+
+        var batch = importBatchRepository.findAll().get(0);
+        assertEquals(5, batch.getCheckpointRow());
+    }
+
+    @Test
+    void testResumeContinuesFromCheckpointWithoutDuplicatingRows() throws Exception {
+        importService.importFromFile("data/dedup_sample.json");
+
+        // As if the run had died after committing the first two rows (one imported, one duplicate)
+        var batch = importBatchRepository.findAll().get(0);
+        batch.setStatus(ImportBatch.Status.FAILED);
+        batch.setCheckpointRow(2);
+        batch.setTotalRows(3);
+        batch.setImportedCount(1);
+        batch.setDuplicateCount(1);
+        importBatchRepository.save(batch);
+
+        importService.resumeImport(batch.getId());
+        var finished = awaitCompletion(batch.getId());
+
+        // Rows 3-5 were committed past the checkpoint, so dedup skips them this time
+        assertEquals(ImportBatch.Status.SUCCEEDED, finished.getStatus());
+        assertEquals(5, finished.getTotalRows());
+        assertEquals(5, finished.getCheckpointRow());
+        assertEquals(1, finished.getImportedCount());
+        assertEquals(4, finished.getDuplicateCount());
+        assertEquals(3, observationRepository.count());
+    }
+
+    @Test
+    void testSucceededAndUploadedImportsCannotBeResumed() throws Exception {
+        var succeeded = importService.importStream(ImportSource.upload(null, NdjsonObservationFormat.MEDIA_TYPE,
+                () -> new ByteArrayInputStream(new byte[0])));
+        assertThrows(ImportNotResumableException.class, () -> importService.resumeImport(succeeded.getId()));
+
+        succeeded.setStatus(ImportBatch.Status.FAILED);
+        importBatchRepository.save(succeeded);
+        assertThrows(ImportNotResumableException.class, () -> importService.resumeImport(succeeded.getId()));
+    }
+
+    private ImportBatch awaitCompletion(Long id) throws InterruptedException {
+        for (var i = 0; i < 100; i++) {
+            var batch = importService.getImportBatch(id);
+            if (batch.getStatus() != ImportBatch.Status.RUNNING) {
+                return batch;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Import " + id + " did not finish");
+    }
+}
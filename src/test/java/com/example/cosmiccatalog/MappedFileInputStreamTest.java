@@ -0,0 +1,46 @@
+package com.example.cosmiccatalog;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MappedFileInputStreamTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testReadsAcrossWindowBoundaries() throws IOException {
+        var content = new byte[10_000];
+        for (var i = 0; i < content.length; i++) {
+            content[i] = (byte) (i * 31);
+        }
+        var file = Files.write(tempDir.resolve("obs.json"), content);
+
+        // A window size that does not divide the file size, so the last window is partial
+        try (var in = new MappedFileInputStream(file, 777)) {
+            assertEquals(content[0] & 0xff, in.read());
+            var rest = in.readAllBytes();
+            assertEquals(content.length - 1, rest.length);
+            assertArrayEquals(Arrays.copyOfRange(content, 1, content.length), rest);
+            assertEquals(-1, in.read());
+        }
+    }
+
+    @Test
+    void testEmptyFileIsImmediatelyExhausted() throws IOException {
+        var file = Files.createFile(tempDir.resolve("empty.json"));
+
+        try (var in = new MappedFileInputStream(file)) {
+            assertEquals(-1, in.read());
+            assertEquals(-1, in.read(new byte[16], 0, 16));
+        }
+    }
+}
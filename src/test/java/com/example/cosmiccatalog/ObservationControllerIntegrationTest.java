@@ -3,6 +3,8 @@ package com.example.cosmiccatalog;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -11,6 +13,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import static com.example.cosmiccatalog.TestObservations.catalogRow;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -52,7 +55,99 @@ class ObservationControllerIntegrationTest {
         mockMvc.perform(get("/api/observations"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content").isArray())
-                .andExpect(jsonPath("$.content.length()").value(5));
+                .andExpect(jsonPath("$.content.length()").value(5))
+                .andExpect(jsonPath("$.content[0].version").value(0));
+    }
+
+    @Test
+    void testCursorListingWalksPagesInIdOrder() throws Exception {
+        var first = observationRepository.save(catalogRow("CURSOR-0", 10.0, 20.0));
+        for (int i = 1; i < 5; i++) {
+            observationRepository.save(catalogRow("CURSOR-" + i, 10.0 + i, 20.0));
+        }
+        var start = String.valueOf(first.getId() - 1);
+
+        mockMvc.perform(get("/api/observations").param("after", start).param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3))
+                .andExpect(jsonPath("$.content[0].programId").value("CURSOR-0"))
+                .andExpect(jsonPath("$.next").value(String.valueOf(first.getId() + 2)))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        mockMvc.perform(get("/api/observations").param("after", String.valueOf(first.getId() + 2)).param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.content[0].programId").value("CURSOR-3"))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @Test
+    void testCursorListingByStatusFollowsScoreThenId() throws Exception {
+        var scores = new int[] {50, 70, 50, 90};
+        for (int i = 0; i < scores.length; i++) {
+            var observation = catalogRow("RANKED-" + i, 10.0 + i, 20.0);
+            observation.setStatus(Observation.Status.REJECTED);
+            observation.setScore(scores[i]);
+            observationRepository.save(observation);
+        }
+
+        var page = mockMvc.perform(get("/api/observations")
+                        .param("after", "")
+                        .param("status", "REJECTED")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].programId").value("RANKED-3"))
+                .andExpect(jsonPath("$.content[1].programId").value("RANKED-1"))
+                .andReturn();
+        var next = objectMapper.readTree(page.getResponse().getContentAsString()).get("next").asText();
+
+        mockMvc.perform(get("/api/observations")
+                        .param("after", next)
+                        .param("status", "REJECTED")
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].programId").value("RANKED-2"))
+                .andExpect(jsonPath("$.content[1].programId").value("RANKED-0"))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @Test
+    void testCursorListingRejectsMismatchedCursor() throws Exception {
+        mockMvc.perform(get("/api/observations").param("after", "12").param("status", "APPROVED"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("VALIDATION_ERROR"));
+    }
+
+    @Test
+    void testConeSearchReturnsNearbyObservationsNearestFirst() throws Exception {
+        var far = catalogRow("CONE-FAR", 150.0, 2.0);
+        var near = catalogRow("CONE-NEAR", 150.0 + 2.0 / 3600.0, 2.0);
+        var nearer = catalogRow("CONE-NEARER", 150.0, 2.0 + 1.0 / 3600.0);
+        var outside = catalogRow("CONE-OUT", 150.0, 2.0 + 40.0 / 3600.0);
+        observationRepository.save(far);
+        observationRepository.save(near);
+        observationRepository.save(nearer);
+        observationRepository.save(outside);
+        far.setRa(210.0);
+        observationRepository.save(far);
+
+        mockMvc.perform(get("/api/observations/cone")
+                .param("ra", "150.0")
+                .param("dec", "2.0")
+                .param("radiusArcsec", "30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].programId").value("CONE-NEARER"))
+                .andExpect(jsonPath("$[1].programId").value("CONE-NEAR"));
+    }
+
+    @Test
+    void testConeSearchRejectsOutOfRangeRadius() throws Exception {
+        mockMvc.perform(get("/api/observations/cone")
+                .param("ra", "150.0")
+                .param("dec", "2.0")
+                .param("radiusArcsec", "7200"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -123,4 +218,49 @@ class ObservationControllerIntegrationTest {
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.error").value("NOT_FOUND"));
     }
+
+    @Test
+    void testBulkApproveReportsOutcomesPerItem() throws Exception {
+        var fresh = observationRepository.save(catalogRow("BULK-1", 10.0, 20.0));
+        var stale = observationRepository.save(catalogRow("BULK-2", 11.0, 21.0));
+        var unguarded = observationRepository.save(catalogRow("BULK-3", 12.0, 22.0));
+
+        var body = objectMapper.writeValueAsString(List.of(
+                Map.of("id", fresh.getId(), "expectedVersion", fresh.getVersion()),
+                Map.of("id", stale.getId(), "expectedVersion", stale.getVersion() + 1),
+                Map.of("id", 999_999L),
+                Map.of("id", unguarded.getId())));
+
+        mockMvc.perform(post("/api/observations/approve")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.approved").value(2))
+                .andExpect(jsonPath("$.conflicts").value(1))
+                .andExpect(jsonPath("$.notFound").value(1))
+                .andExpect(jsonPath("$.results[0].outcome").value("APPROVED"))
+                .andExpect(jsonPath("$.results[0].observation.status").value("APPROVED"))
+                .andExpect(jsonPath("$.results[0].observation.version").value(fresh.getVersion() + 1))
+                .andExpect(jsonPath("$.results[1].outcome").value("CONFLICT"))
+                .andExpect(jsonPath("$.results[1].actualVersion").value(stale.getVersion()))
+                .andExpect(jsonPath("$.results[2].outcome").value("NOT_FOUND"))
+                .andExpect(jsonPath("$.results[3].outcome").value("APPROVED"));
+
+        mockMvc.perform(get("/api/observations").param("sort", "id"))
+                .andExpect(jsonPath("$.content[0].status").value("APPROVED"))
+                .andExpect(jsonPath("$.content[1].status").value("PENDING"))
+                .andExpect(jsonPath("$.content[2].status").value("APPROVED"));
+    }
+
+    @Test
+    void testBulkApproveRejectsRepeatedIds() throws Exception {
+        var saved = observationRepository.save(catalogRow("BULK-DUP", 10.0, 20.0));
+        var body = objectMapper.writeValueAsString(List.of(Map.of("id", saved.getId()), Map.of("id", saved.getId())));
+
+        mockMvc.perform(post("/api/observations/approve")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("VALIDATION_ERROR"));
+    }
 }
\ No newline at end of file
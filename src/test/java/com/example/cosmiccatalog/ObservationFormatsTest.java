@@ -0,0 +1,37 @@
+package com.example.cosmiccatalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ObservationFormatsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private final ObservationFormats formats = new ObservationFormats(List.of(
+            new NdjsonObservationFormat(objectMapper),
+            new CsvObservationFormat(),
+            new JsonArrayObservationFormat(objectMapper)));
+
+    @Test
+    void testSelectsByMediaTypeIgnoringParameters() {
+        assertEquals("ndjson", formats.select("application/x-ndjson; charset=utf-8", null).name());
+        assertEquals("csv", formats.select("text/csv", "upload:body").name());
+    }
+
+    @Test
+    void testMediaTypeWinsOverExtension() {
+        assertEquals("csv", formats.select("text/csv", "export.json").name());
+    }
+
+    @Test
+    void testFallsBackToExtensionThenJsonArray() {
+        assertEquals("ndjson", formats.select("application/octet-stream", "dump.JSONL").name());
+        assertEquals("csv", formats.select(null, "file:/data/survey.csv").name());
+        assertEquals("json", formats.select(null, "data/jwst_sample.json").name());
+        assertEquals("json", formats.select(null, "upload:body").name());
+    }
+}
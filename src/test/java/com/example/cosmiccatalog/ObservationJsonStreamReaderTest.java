@@ -0,0 +1,125 @@
+package com.example.cosmiccatalog;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ObservationJsonStreamReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void testReadsArrayInBoundedChunks() throws IOException {
+        var json = """
+                [
+                  {"telescope": "JWST", "programId": "P-1", "targetName": "Carina", "ra": 161.2675, "dec": -59.8675,
+                   "obsDate": "2024-03-15T14:30:00", "instrument": "NIRCam", "filters": "F200W", "exposureSec": 7200},
+                  {"telescope": "JWST", "programId": "P-2", "targetName": "Quintet", "ra": 339.0146, "dec": 33.9608},
+                  {"telescope": "Hubble", "programId": "P-3", "targetName": "Pillars", "ra": 274.7, "dec": -13.8167}
+                ]
+                """;
+
+        try (var reader = new ObservationJsonStreamReader(objectMapper, stream(json))) {
+            var first = reader.nextChunk(2);
+            assertEquals(2, first.size());
+            assertEquals("P-1", first.get(0).getProgramId());
+            assertEquals(LocalDateTime.of(2024, 3, 15, 14, 30), first.get(0).getObsDate());
+            assertEquals(7200, first.get(0).getExposureSec());
+
+            var second = reader.nextChunk(2);
+            assertEquals(1, second.size());
+            assertEquals("P-3", second.get(0).getProgramId());
+
+            assertTrue(reader.nextChunk(2).isEmpty());
+        }
+    }
+
+    @Test
+    void testNonArrayDocumentIsRejected() {
+        assertThrows(JsonParseException.class,
+                () -> new ObservationJsonStreamReader(objectMapper, stream("{\"telescope\": \"JWST\"}")));
+    }
+
+    @Test
+    void testEmptyInputYieldsNothing() throws IOException {
+        try (var reader = new ObservationJsonStreamReader(objectMapper, stream(""))) {
+            assertTrue(reader.nextChunk(10).isEmpty());
+        }
+    }
+
+    @Test
+    void testIgnoresUnknownAndNestedFields() throws IOException {
+        var json = """
+                [{"obsId": "x", "program_id": "P-9", "meta": {"a": [1, 2]}, "ra": "12.5", "dec": 1,
+                  "obsDate": "2022-07-12T12:00:00Z", "score": 99}]
+                """;
+
+        try (var reader = new ObservationJsonStreamReader(objectMapper, stream(json))) {
+            var observation = reader.nextChunk(10).get(0);
+            assertEquals("P-9", observation.getProgramId());
+            assertEquals(12.5, observation.getRa());
+            assertEquals(1.0, observation.getDec());
+            assertEquals(LocalDateTime.of(2022, 7, 12, 12, 0), observation.getObsDate());
+            assertEquals(0, observation.getScore());
+        }
+    }
+
+    @Test
+    void testReadsNdjsonLines() throws IOException {
+        var ndjson = """
+                {"telescope": "JWST", "programId": "N-1", "ra": 1.0, "dec": 2.0}
+
+                {"telescope": "HST", "programId": "N-2", "ra": 3.0, "dec": 4.0}
+                {"telescope": "HST", "programId": "N-3", "ra": 5.0, "dec": 6.0}
+                """;
+
+        try (var reader = new ObservationNdjsonStreamReader(objectMapper, stream(ndjson))) {
+            assertEquals(2, reader.nextChunk(2).size());
+            assertEquals("N-3", reader.nextChunk(2).get(0).getProgramId());
+            assertTrue(reader.nextChunk(2).isEmpty());
+        }
+    }
+
+    @Test
+    void testReadsCsvWithQuotedFieldsAndHeaderAliases() throws IOException {
+        var csv = "\uFEFFTelescope,programId,TARGET_NAME,ra,dec,obs_date,exposure_sec,notes\n"
+                + "JWST,C-1,\"Quintet, \"\"east\"\"\",339.0146,33.9608,2024-10-22T14:30:00,4271,\"two\nlines\"\n"
+                + "\n"
+                + "HST,C-2,Pillars,274.7,-13.8167,,,\n";
+
+        try (var reader = new ObservationCsvStreamReader(stream(csv))) {
+            var chunk = reader.nextChunk(10);
+            assertEquals(2, chunk.size());
+            assertEquals("JWST", chunk.get(0).getTelescope());
+            assertEquals("Quintet, \"east\"", chunk.get(0).getTargetName());
+            assertEquals(4271, chunk.get(0).getExposureSec());
+            assertEquals(LocalDateTime.of(2024, 10, 22, 14, 30), chunk.get(0).getObsDate());
+            assertEquals("C-2", chunk.get(1).getProgramId());
+            assertNull(chunk.get(1).getObsDate());
+        }
+    }
+
+    @Test
+    void testCsvReportsBadValuesWithLineNumber() throws IOException {
+        var csv = "telescope,ra,dec\nJWST,1.0,2.0\nJWST,north,2.0\n";
+
+        try (var reader = new ObservationCsvStreamReader(stream(csv))) {
+            var error = assertThrows(IOException.class, () -> reader.nextChunk(10));
+            assertTrue(error.getMessage().contains("line 3"));
+        }
+    }
+
+    private static ByteArrayInputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
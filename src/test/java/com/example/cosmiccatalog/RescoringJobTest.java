@@ -0,0 +1,71 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.dto.RescoreStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Integration tests for the rescoring job, using a chunk size small enough to span several keyset pages.
+ */
+@SpringBootTest(properties = {"app.import.chunk-size=2", "app.rescore.chunk-size=2",
+        "app.import.base-dir=src/test/resources/data"})
+@ActiveProfiles("test")
+class RescoringJobTest {
+
+    @Autowired
+    private RescoringJob rescoringJob;
+
+    @Autowired
+    private ObservationRepository observationRepository;
+
+    @BeforeEach
+    void clean() {
+        observationRepository.deleteAll();
+    }
+
+    @Test
+    void testRescoresStaleScoresWithoutBumpingVersion() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            var observation = new Observation();
+            observation.setTelescope("JWST");
+            observation.setProgramId("RESCORE-" + i);
+            observation.setTargetName("Target " + i);
+            observation.setRa(10.0 + i);
+            observation.setDec(20.0);
+            observation.setObsDate(LocalDateTime.now().minusDays(10)); // 20
+            observation.setInstrument("WFC3");                         // 25
+            observation.setFilters("F200W");                           // 15
+            observation.setExposureSec(700);                           // 30
+            observation.setScore(i == 0 ? 90 : 1);                     // first one is already current
+            observationRepository.save(observation);
+        }
+
+        rescoringJob.start(false);
+        var status = awaitCompletion();
+
+        assertEquals(RescoreStatus.State.COMPLETED, status.state());
+        assertEquals(5, status.scanned());
+        assertEquals(4, status.updated());
+        for (var observation : observationRepository.findAll()) {
+            assertEquals(90, observation.getScore());
+            assertEquals(0, observation.getVersion());
+        }
+    }
+
+    private RescoreStatus awaitCompletion() throws InterruptedException {
+        var deadline = System.currentTimeMillis() + 10_000;
+        var status = rescoringJob.getStatus();
+        while (status.state() == RescoreStatus.State.RUNNING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            status = rescoringJob.getStatus();
+        }
+        return status;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.cosmiccatalog;
+
+import com.example.cosmiccatalog.exception.InvalidScoringRulesException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ScoringRulesRegistryTest {
+
+    private final ScoringRulesRegistry registry = new ScoringRulesRegistry(
+            new DefaultResourceLoader(), new ObjectMapper(), "classpath:scoring-rules.json");
+
+    private final ScoringService scoringService = new ScoringServiceImpl(registry, new SimpleMeterRegistry());
+
+    @Test
+    void testBundledRulesFileMatchesDefaults() {
+        assertEquals(ScoringRules.defaults(), registry.current().source());
+    }
+
+    @Test
+    void testReplacedRulesTakeEffectImmediately() {
+        var observation = new Observation();
+        observation.setExposureSec(700);
+        observation.setObsDate(LocalDateTime.now().minusYears(10));
+        observation.setInstrument("MIRI");
+        observation.setFilters("F770W");
+        assertEquals(30, scoringService.calculateScore(observation));
+
+        registry.replace(new ScoringRules(
+                List.of(new ScoringRules.ExposureRule(600, 10)),
+                List.of(),
+                List.of(new ScoringRules.InstrumentRule("MIRI", 20)),
+                List.of(new ScoringRules.FilterRule("F[5-9]##W", 5)),
+                100));
+
+        assertEquals(35, scoringService.calculateScore(observation));
+    }
+
+    @Test
+    void testInvalidRulesAreRejectedAndActiveRulesKept() {
+        var active = registry.current();
+
+        assertThrows(InvalidScoringRulesException.class, () -> registry.replace(new ScoringRules(
+                List.of(), List.of(), List.of(), List.of(new ScoringRules.FilterRule("F[1-4", 15)), 100)));
+        assertThrows(InvalidScoringRulesException.class, () -> registry.replace(new ScoringRules(
+                null, List.of(), List.of(), List.of(), 100)));
+
+        assertSame(active, registry.current());
+    }
+}
@@ -3,6 +3,7 @@ package com.example.cosmiccatalog;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -33,4 +34,39 @@ public class ScoringServiceTest {
         int score = scoringService.calculateScore(observation);
         assertEquals(15, score);
     }
-}
+
+    @Test
+    void testScoreBatchScoresEveryObservationInPlace() {
+        Observation recent = new Observation();
+        recent.setExposureSec(700);                 // 30
+        recent.setObsDate(LocalDateTime.now().minusDays(30)); // 20
+        recent.setInstrument("WFC3");               // 25
+        recent.setFilters("F150M");                 // 15
+
+        Observation old = new Observation();
+        old.setExposureSec(400);                    // 15
+        old.setObsDate(LocalDateTime.now().minusYears(3)); // 10
+        old.setInstrument("HST/ACS");               // 10
+        old.setFilters("F090W");                    // 0
+
+        Observation sparse = new Observation();      // no date, instrument or filters
+
+        scoringService.scoreBatch(List.of(recent, old, sparse));
+
+        assertEquals(90, recent.getScore());
+        assertEquals(35, old.getScore());
+        assertEquals(0, sparse.getScore());
+    }
+
+    @Test
+    void testRecencyUsesSuppliedNow() {
+        Observation observation = new Observation();
+        observation.setObsDate(LocalDateTime.of(2024, 1, 1, 0, 0));
+        observation.setInstrument("none");
+        observation.setFilters("none");
+
+        assertEquals(20, scoringService.calculateScore(observation, LocalDateTime.of(2024, 12, 30, 0, 0)));
+        assertEquals(10, scoringService.calculateScore(observation, LocalDateTime.of(2025, 1, 1, 0, 0)));
+        assertEquals(0, scoringService.calculateScore(observation, LocalDateTime.of(2029, 1, 1, 0, 0)));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.example.cosmiccatalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SkyCellsTest {
+
+    @Test
+    void testConeRangesCoverNearbyCells() {
+        var ranges = SkyCells.coneRanges(150.0, 2.0, 30.0 / 3600.0);
+
+        assertTrue(covers(ranges, SkyCells.cellOf(150.0, 2.0)));
+        assertTrue(covers(ranges, SkyCells.cellOf(150.0 + 25.0 / 3600.0, 2.0 - 25.0 / 3600.0)));
+        assertFalse(covers(ranges, SkyCells.cellOf(151.0, 2.0)));
+    }
+
+    @Test
+    void testConeRangesWrapAroundZeroRa() {
+        var ranges = SkyCells.coneRanges(0.01, 10.0, 0.05);
+
+        assertTrue(covers(ranges, SkyCells.cellOf(359.98, 10.0)));
+        assertTrue(covers(ranges, SkyCells.cellOf(0.03, 10.0)));
+        assertFalse(covers(ranges, SkyCells.cellOf(180.0, 10.0)));
+    }
+
+    @Test
+    void testConeAroundPoleCoversEveryRa() {
+        var ranges = SkyCells.coneRanges(0.0, 89.99, 0.05);
+
+        assertTrue(covers(ranges, SkyCells.cellOf(180.0, 89.97)));
+        assertTrue(covers(ranges, SkyCells.cellOf(300.0, 89.99)));
+    }
+
+    @Test
+    void testAngularDistance() {
+        assertEquals(1.0, SkyCells.angularDistanceDeg(10.0, 0.0, 11.0, 0.0), 1e-9);
+        assertEquals(0.5, SkyCells.angularDistanceDeg(0.0, 60.0, 1.0, 60.0), 1e-3);
+    }
+
+    private static boolean covers(List<SkyCells.CellRange> ranges, long cell) {
+        return ranges.stream().anyMatch(r -> cell >= r.from() && cell <= r.to());
+    }
+}
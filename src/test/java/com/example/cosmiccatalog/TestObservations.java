@@ -0,0 +1,55 @@
+package com.example.cosmiccatalog;
+
+import java.time.LocalDateTime;
+
+/**
+ * Shared observation fixtures for tests, each setting only what its kind of test looks at.
+ */
+final class TestObservations {
+
+    private TestObservations() {
+    }
+
+    /**
+     * An unsaved observation in a dedup group (telescope, target, filters) at the given position.
+     */
+    static Observation inGroup(String telescope, String targetName, String filters, double ra, double dec) {
+        var observation = new Observation();
+        observation.setTelescope(telescope);
+        observation.setTargetName(targetName);
+        observation.setFilters(filters);
+        observation.setRa(ra);
+        observation.setDec(dec);
+        return observation;
+    }
+
+    /**
+     * An observation with an id, score and status, as held by the featured index.
+     */
+    static Observation scored(Long id, int score, Observation.Status status) {
+        var observation = new Observation();
+        observation.setId(id);
+        observation.setTelescope("JWST");
+        observation.setTargetName("Target " + id);
+        observation.setScore(score);
+        observation.setStatus(status);
+        return observation;
+    }
+
+    /**
+     * A complete, unsaved catalog row at the given position, ready to persist.
+     */
+    static Observation catalogRow(String programId, double ra, double dec) {
+        var observation = new Observation();
+        observation.setTelescope("JWST");
+        observation.setProgramId(programId);
+        observation.setTargetName("Cone Target");
+        observation.setRa(ra);
+        observation.setDec(dec);
+        observation.setObsDate(LocalDateTime.now());
+        observation.setInstrument("NIRCam");
+        observation.setFilters("F090W");
+        observation.setExposureSec(3600);
+        return observation;
+    }
+}